@@ -1,5 +1,7 @@
 package com.example.myapi.config;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -10,6 +12,66 @@ public class FinnhubProperties {
     private String baseUrl;
     private String apiKey;
 
+    // 모든 Finnhub 호출에 적용되는 초당 호출 한도 (버스트 크기도 동일)
+    @Min(1)
+    private int rateLimitPerSecond = 30;
+
+    // Finnhub 호출 실행 스레드 수
+    @Min(1)
+    private int fetchThreads = 8;
+
+    // 동기 호출(프로필, 재무 등)이 호출 한도를 기다리는 최대 시간
+    @Min(100)
+    private long callTimeoutMs = 30000;
+
+    // 여러 티커 일괄 조회 시 최대 대기 시간
+    @Min(100)
+    private long quoteTimeoutMs = 10000;
+
+    @Valid
+    private QuoteCache quoteCache = new QuoteCache();
+
+    /**
+     * Quote 캐시 크기 및 수요 없는 티커의 갱신/제거 기준
+     */
+    public static class QuoteCache {
+
+        @Min(1)
+        private int maxSize = 500;
+
+        // 수요 없는 티커의 최대 갱신 간격
+        @Min(60)
+        private long idleRefreshMaxSeconds = 600;
+
+        // 이 시간 동안 수요가 없으면 캐시에서 제거
+        @Min(60)
+        private long evictAfterIdleSeconds = 1800;
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public long getIdleRefreshMaxSeconds() {
+            return idleRefreshMaxSeconds;
+        }
+
+        public void setIdleRefreshMaxSeconds(long idleRefreshMaxSeconds) {
+            this.idleRefreshMaxSeconds = idleRefreshMaxSeconds;
+        }
+
+        public long getEvictAfterIdleSeconds() {
+            return evictAfterIdleSeconds;
+        }
+
+        public void setEvictAfterIdleSeconds(long evictAfterIdleSeconds) {
+            this.evictAfterIdleSeconds = evictAfterIdleSeconds;
+        }
+    }
+
     public String getBaseUrl() {
         return baseUrl;
     }
@@ -25,4 +87,44 @@ public class FinnhubProperties {
     public void setApiKey(String apiKey) {
         this.apiKey = apiKey;
     }
+
+    public int getRateLimitPerSecond() {
+        return rateLimitPerSecond;
+    }
+
+    public void setRateLimitPerSecond(int rateLimitPerSecond) {
+        this.rateLimitPerSecond = rateLimitPerSecond;
+    }
+
+    public int getFetchThreads() {
+        return fetchThreads;
+    }
+
+    public void setFetchThreads(int fetchThreads) {
+        this.fetchThreads = fetchThreads;
+    }
+
+    public long getCallTimeoutMs() {
+        return callTimeoutMs;
+    }
+
+    public void setCallTimeoutMs(long callTimeoutMs) {
+        this.callTimeoutMs = callTimeoutMs;
+    }
+
+    public long getQuoteTimeoutMs() {
+        return quoteTimeoutMs;
+    }
+
+    public void setQuoteTimeoutMs(long quoteTimeoutMs) {
+        this.quoteTimeoutMs = quoteTimeoutMs;
+    }
+
+    public QuoteCache getQuoteCache() {
+        return quoteCache;
+    }
+
+    public void setQuoteCache(QuoteCache quoteCache) {
+        this.quoteCache = quoteCache;
+    }
 }
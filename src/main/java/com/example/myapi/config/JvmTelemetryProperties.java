@@ -0,0 +1,59 @@
+package com.example.myapi.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * JFR 기반 JVM 텔레메트리 설정
+ * - 사용 여부
+ * - 집계 구간 길이와 메모리에 보관할 구간 수
+ * - 락 경합으로 기록할 최소 대기 시간
+ */
+@ConfigurationProperties(prefix = "jvm-telemetry")
+@Validated
+public class JvmTelemetryProperties {
+
+    private boolean enabled = true;
+
+    @Min(1000)
+    private long windowMs = 5000;
+
+    @Min(1)
+    private int windowCount = 720;
+
+    @Min(1)
+    private long lockThresholdMs = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getWindowMs() {
+        return windowMs;
+    }
+
+    public void setWindowMs(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public int getWindowCount() {
+        return windowCount;
+    }
+
+    public void setWindowCount(int windowCount) {
+        this.windowCount = windowCount;
+    }
+
+    public long getLockThresholdMs() {
+        return lockThresholdMs;
+    }
+
+    public void setLockThresholdMs(long lockThresholdMs) {
+        this.lockThresholdMs = lockThresholdMs;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.myapi.config;
+
+import com.example.myapi.service.MarketSessionCalendar.MarketSession;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미국 주식 거래 시간대별 갱신 주기 설정
+ * - 주식 Quote 갱신 간격 (관심 티커 기준)
+ * - 대시보드 전체 데이터 브로드캐스트 간격
+ * - 계산식으로 구할 수 없는 임시 휴장일
+ */
+@ConfigurationProperties(prefix = "market-hours")
+@Validated
+public class MarketHoursProperties {
+
+    @Valid
+    private SessionIntervals quoteRefreshSeconds = new SessionIntervals(60, 30, 60, 1800);
+
+    @Valid
+    private SessionIntervals broadcastSeconds = new SessionIntervals(60, 30, 60, 120);
+
+    private List<LocalDate> extraHolidays = new ArrayList<>();
+
+    /**
+     * 세션별 간격 (초)
+     */
+    public static class SessionIntervals {
+
+        @Min(5)
+        private long preMarket;
+
+        @Min(5)
+        private long regular;
+
+        @Min(5)
+        private long afterHours;
+
+        @Min(5)
+        private long closed;
+
+        public SessionIntervals() {
+        }
+
+        public SessionIntervals(long preMarket, long regular, long afterHours, long closed) {
+            this.preMarket = preMarket;
+            this.regular = regular;
+            this.afterHours = afterHours;
+            this.closed = closed;
+        }
+
+        public long forSession(MarketSession session) {
+            return switch (session) {
+                case PRE_MARKET -> preMarket;
+                case REGULAR -> regular;
+                case AFTER_HOURS -> afterHours;
+                case CLOSED -> closed;
+            };
+        }
+
+        public long getPreMarket() {
+            return preMarket;
+        }
+
+        public void setPreMarket(long preMarket) {
+            this.preMarket = preMarket;
+        }
+
+        public long getRegular() {
+            return regular;
+        }
+
+        public void setRegular(long regular) {
+            this.regular = regular;
+        }
+
+        public long getAfterHours() {
+            return afterHours;
+        }
+
+        public void setAfterHours(long afterHours) {
+            this.afterHours = afterHours;
+        }
+
+        public long getClosed() {
+            return closed;
+        }
+
+        public void setClosed(long closed) {
+            this.closed = closed;
+        }
+    }
+
+    public SessionIntervals getQuoteRefreshSeconds() {
+        return quoteRefreshSeconds;
+    }
+
+    public void setQuoteRefreshSeconds(SessionIntervals quoteRefreshSeconds) {
+        this.quoteRefreshSeconds = quoteRefreshSeconds;
+    }
+
+    public SessionIntervals getBroadcastSeconds() {
+        return broadcastSeconds;
+    }
+
+    public void setBroadcastSeconds(SessionIntervals broadcastSeconds) {
+        this.broadcastSeconds = broadcastSeconds;
+    }
+
+    public List<LocalDate> getExtraHolidays() {
+        return extraHolidays;
+    }
+
+    public void setExtraHolidays(List<LocalDate> extraHolidays) {
+        this.extraHolidays = extraHolidays;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.myapi.config;
 
+import jakarta.validation.constraints.Min;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -10,6 +11,13 @@ public class OpenWeatherProperties {
     private String baseUrl;
     private String apiKey;
 
+    // 도시 카탈로그 CSV 위치 (classpath: 또는 file:)
+    private String cityCatalog = "classpath:cities.csv";
+
+    // 도시별 날씨 동시 조회 수
+    @Min(1)
+    private int refreshConcurrency = 8;
+
     public String getBaseUrl() {
         return baseUrl;
     }
@@ -25,4 +33,20 @@ public class OpenWeatherProperties {
     public void setApiKey(String apiKey) {
         this.apiKey = apiKey;
     }
+
+    public int getRefreshConcurrency() {
+        return refreshConcurrency;
+    }
+
+    public void setRefreshConcurrency(int refreshConcurrency) {
+        this.refreshConcurrency = refreshConcurrency;
+    }
+
+    public String getCityCatalog() {
+        return cityCatalog;
+    }
+
+    public void setCityCatalog(String cityCatalog) {
+        this.cityCatalog = cityCatalog;
+    }
 }
@@ -0,0 +1,78 @@
+package com.example.myapi.config;
+
+import com.example.myapi.sse.SseOverflowPolicy;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대시보드 SSE 전송 설정
+ * - 연결별 송신 큐 크기
+ * - 송신 전용 스레드 수
+ * - 이벤트 이름별 큐 초과 정책
+ * - 전송이 멈춘 클라이언트 제거 기준
+ */
+@ConfigurationProperties(prefix = "dashboard.sse")
+@Validated
+public class SseProperties {
+
+    @Min(1)
+    private int queueCapacity = 16;
+
+    @Min(1)
+    private int writerThreads = 8;
+
+    @Min(1000)
+    private long stallTimeoutMs = 30000;
+
+    private SseOverflowPolicy defaultPolicy = SseOverflowPolicy.DROP_OLDEST;
+
+    private Map<String, SseOverflowPolicy> eventPolicies = new HashMap<>();
+
+    public SseOverflowPolicy policyFor(String eventName) {
+        return eventPolicies.getOrDefault(eventName, defaultPolicy);
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getWriterThreads() {
+        return writerThreads;
+    }
+
+    public void setWriterThreads(int writerThreads) {
+        this.writerThreads = writerThreads;
+    }
+
+    public long getStallTimeoutMs() {
+        return stallTimeoutMs;
+    }
+
+    public void setStallTimeoutMs(long stallTimeoutMs) {
+        this.stallTimeoutMs = stallTimeoutMs;
+    }
+
+    public SseOverflowPolicy getDefaultPolicy() {
+        return defaultPolicy;
+    }
+
+    public void setDefaultPolicy(SseOverflowPolicy defaultPolicy) {
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    public Map<String, SseOverflowPolicy> getEventPolicies() {
+        return eventPolicies;
+    }
+
+    public void setEventPolicies(Map<String, SseOverflowPolicy> eventPolicies) {
+        this.eventPolicies = eventPolicies;
+    }
+}
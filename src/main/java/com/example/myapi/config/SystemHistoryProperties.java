@@ -0,0 +1,72 @@
+package com.example.myapi.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 시스템 히스토리 수집/저장 설정
+ * - 수집 주기
+ * - 메모리 버퍼 크기와 일괄 저장 주기/크기
+ * - DB에 쓰지 못한 샘플을 보관하는 spill 파일
+ */
+@ConfigurationProperties(prefix = "system-history")
+@Validated
+public class SystemHistoryProperties {
+
+    @Min(1000)
+    private long sampleIntervalMs = 5000;
+
+    @Min(1000)
+    private long flushIntervalMs = 30000;
+
+    @Min(1)
+    private int batchSize = 200;
+
+    @Min(1)
+    private int queueCapacity = 2000;
+
+    @NotBlank
+    private String spillFile = "./data/system-history.spill";
+
+    public long getSampleIntervalMs() {
+        return sampleIntervalMs;
+    }
+
+    public void setSampleIntervalMs(long sampleIntervalMs) {
+        this.sampleIntervalMs = sampleIntervalMs;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public String getSpillFile() {
+        return spillFile;
+    }
+
+    public void setSpillFile(String spillFile) {
+        this.spillFile = spillFile;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.myapi.config;
 
+import com.example.myapi.filter.RequestMetricsInterceptor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -9,10 +11,22 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * Web MVC Configuration
  * - Static resource serving
  * - Default page routing
+ * - Request latency metrics
  */
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final RequestMetricsInterceptor requestMetricsInterceptor;
+
+    public WebConfig(RequestMetricsInterceptor requestMetricsInterceptor) {
+        this.requestMetricsInterceptor = requestMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestMetricsInterceptor).addPathPatterns("/api/**");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/**")
@@ -2,9 +2,25 @@ package com.example.myapi.controller;
 
 import com.example.myapi.dto.alert.AlertEventDto;
 import com.example.myapi.dto.dashboard.DashboardConfig;
+import com.example.myapi.dto.dashboard.DashboardConfig.TickerConfig;
 import com.example.myapi.dto.dashboard.DashboardData;
+import com.example.myapi.dto.dashboard.DashboardData.NewsData;
+import com.example.myapi.dto.dashboard.DashboardData.StockQuote;
+import com.example.myapi.dto.dashboard.DashboardData.StocksData;
+import com.example.myapi.dto.dashboard.DashboardData.WeatherData;
+import com.example.myapi.dto.system.JvmTelemetryWindow;
 import com.example.myapi.service.AlertIntegrationService;
+import com.example.myapi.service.CacheMetricsRegistry;
+import com.example.myapi.service.DashboardDeltaTracker;
+import com.example.myapi.service.DashboardDeltaTracker.Snapshot;
+import com.example.myapi.service.DashboardPayloadEncoder;
+import com.example.myapi.service.DashboardPayloadEncoder.SharedSections;
 import com.example.myapi.service.DashboardService;
+import com.example.myapi.service.FinnhubService;
+import com.example.myapi.service.JvmTelemetryService;
+import com.example.myapi.service.MarketSessionCalendar;
+import com.example.myapi.sse.SseConnection;
+import com.example.myapi.sse.SseDispatcher;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,9 +29,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 대시보드 SSE 컨트롤러
@@ -30,18 +49,38 @@ public class DashboardController {
     private static final long SSE_TIMEOUT = 0L; // 무한 타임아웃
     
     private final DashboardService dashboardService;
+    private final FinnhubService finnhubService;
+    private final MarketSessionCalendar marketCalendar;
     private final AlertIntegrationService alertIntegrationService;
+    private final DashboardPayloadEncoder payloadEncoder;
+    private final DashboardDeltaTracker deltaTracker;
+    private final SseDispatcher dispatcher;
+    private final JvmTelemetryService jvmTelemetryService;
+    private final CacheMetricsRegistry cacheMetrics;
     private final ObjectMapper objectMapper;
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
-    // 사용자 ID와 emitter 매핑 (향후 개선용)
-    private final ConcurrentHashMap<SseEmitter, String> emitterUserMap = new ConcurrentHashMap<>();
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    // scheduler 스레드에서만 접근
+    private JvmTelemetryWindow lastJvmWindow;
 
     public DashboardController(DashboardService dashboardService, 
+                              FinnhubService finnhubService,
+                              MarketSessionCalendar marketCalendar,
                               AlertIntegrationService alertIntegrationService,
+                              DashboardPayloadEncoder payloadEncoder,
+                              DashboardDeltaTracker deltaTracker,
+                              SseDispatcher dispatcher,
+                              JvmTelemetryService jvmTelemetryService,
+                              CacheMetricsRegistry cacheMetrics,
                               ObjectMapper objectMapper) {
         this.dashboardService = dashboardService;
+        this.finnhubService = finnhubService;
+        this.marketCalendar = marketCalendar;
         this.alertIntegrationService = alertIntegrationService;
+        this.payloadEncoder = payloadEncoder;
+        this.deltaTracker = deltaTracker;
+        this.dispatcher = dispatcher;
+        this.jvmTelemetryService = jvmTelemetryService;
+        this.cacheMetrics = cacheMetrics;
         this.objectMapper = objectMapper;
         startDataBroadcaster();
     }
@@ -63,28 +102,10 @@ public class DashboardController {
         }
 
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-        emitters.add(emitter);
-        emitterUserMap.put(emitter, effectiveUserId);
+        // 완료/타임아웃/에러 콜백은 디스패처에서 등록
+        SseConnection connection = dispatcher.register(emitter, effectiveUserId);
 
-        emitter.onCompletion(() -> {
-            emitters.remove(emitter);
-            emitterUserMap.remove(emitter);
-            log.info("SSE connection completed. Active connections: {}", emitters.size());
-        });
-
-        emitter.onTimeout(() -> {
-            emitters.remove(emitter);
-            emitterUserMap.remove(emitter);
-            log.info("SSE connection timed out. Active connections: {}", emitters.size());
-        });
-
-        emitter.onError(e -> {
-            emitters.remove(emitter);
-            emitterUserMap.remove(emitter);
-            log.warn("SSE connection error: {}. Active connections: {}", e.getMessage(), emitters.size());
-        });
-
-        log.info("New SSE connection established for user: {}. Active connections: {}", effectiveUserId, emitters.size());
+        log.info("New SSE connection established for user: {}. Active connections: {}", effectiveUserId, dispatcher.size());
         log.debug("SSE connection params - RequestAttribute: {}, RequestHeader: {}, RequestParam: {}", 
                 userId, headerUserId, paramUserId);
 
@@ -93,28 +114,20 @@ public class DashboardController {
         CompletableFuture.runAsync(() -> {
             try {
                 // 초기 연결 확인을 위한 heartbeat 먼저 전송
-                emitter.send(SseEmitter.event()
-                        .name("connected")
-                        .data("{\"status\":\"connected\"}"));
+                dispatcher.send(connection, "connected", "{\"status\":\"connected\"}");
                 
                 // 약간의 지연 후 전체 데이터 전송
                 Thread.sleep(100);
                 
                 DashboardData fullData = dashboardService.getFullData(finalUserId);
-                String jsonData = objectMapper.writeValueAsString(fullData);
                 log.debug("Sending initial dashboard data to user {}: {} stocks", 
                         finalUserId, fullData.stocks() != null && fullData.stocks().quotes() != null 
                         ? fullData.stocks().quotes().size() : 0);
-                emitter.send(SseEmitter.event()
-                        .name("dashboard")
-                        .data(jsonData));
+                sendFull(connection, fullData);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                emitters.remove(emitter);
             } catch (Exception e) {
-                // Client disconnected during initial data send - just remove
-                emitters.remove(emitter);
-                log.debug("Initial data send failed (client disconnected): {}", e.getMessage());
+                log.debug("Initial data preparation failed for user {}: {}", finalUserId, e.getMessage());
             }
         });
 
@@ -158,6 +171,22 @@ public class DashboardController {
         return ResponseEntity.ok(savedConfig);
     }
 
+    /**
+     * 전체 스냅샷 재요청 (클라이언트가 delta의 baseVersion 불일치를 감지한 경우)
+     * 해당 사용자의 모든 연결에 version이 새로 매겨진 전체 데이터를 전송
+     */
+    @PostMapping("/resync")
+    public ResponseEntity<Void> resync(
+            @RequestAttribute(value = "userId", required = false) String userId,
+            @RequestHeader(value = "X-User-Id", required = false) String headerUserId) {
+        String effectiveUserId = userId != null ? userId : headerUserId;
+        if (effectiveUserId == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        broadcastFullDataForUser(effectiveUserId);
+        return ResponseEntity.accepted().build();
+    }
+
     /**
      * 현재 데이터 스냅샷 조회 (비 SSE, 사용자별)
      */
@@ -174,10 +203,9 @@ public class DashboardController {
 
     /**
      * 주기적 데이터 브로드캐스트 시작
-     * - 주식: 60초마다
-     * - 날씨: 60초마다
-     * - 뉴스: 5분마다
+     * - 전체 데이터(주식/날씨/뉴스): 미국 주식 거래 세션별 간격 (정규장 30초, 프리/애프터마켓 60초, 휴장 120초)
      * - 시스템: 5초마다
+     * - 캐시 지표: 30초마다
      */
     private void startDataBroadcaster() {
         // 시스템 데이터 (5초마다)
@@ -189,49 +217,127 @@ public class DashboardController {
             }
         }, 5, 5, TimeUnit.SECONDS);
 
-        // 전체 데이터 (60초마다)
+        // 캐시 지표 (30초마다)
         scheduler.scheduleAtFixedRate(() -> {
+            try {
+                broadcastCacheMetrics();
+            } catch (Exception e) {
+                log.error("Error broadcasting cache metrics: {}", e.getMessage());
+            }
+        }, 30, 30, TimeUnit.SECONDS);
+
+        // 전체 데이터 (거래 세션별 간격, 매 회차마다 다음 간격 계산)
+        scheduleFullBroadcast();
+    }
+
+    private void scheduleFullBroadcast() {
+        long delaySeconds = marketCalendar.broadcastInterval().getSeconds();
+        scheduler.schedule(() -> {
             try {
                 broadcastFullData();
             } catch (Exception e) {
                 log.error("Error broadcasting full data: {}", e.getMessage());
+            } finally {
+                scheduleFullBroadcast();
             }
-        }, 60, 60, TimeUnit.SECONDS);
+        }, delaySeconds, TimeUnit.SECONDS);
     }
 
     /**
      * 전체 데이터 브로드캐스트 (모든 사용자에게 각자의 설정에 맞는 데이터 전송)
+     * - 날씨/뉴스/시스템 섹션은 틱당 한 번만 조회하고 직렬화
+     * - 주식 섹션은 동일한 티커 구성끼리 한 번만 조회하고 직렬화
+     * - 이전에 스냅샷을 받은 연결에는 변경분만 "dashboard-delta"로 전송
+     *   (같은 기준 스냅샷 + 같은 대상 스냅샷끼리 한 번만 직렬화)
      */
     private void broadcastFullData() {
-        if (emitters.isEmpty()) return;
-        
-        // 각 사용자별로 개인화된 데이터 브로드캐스트
-        for (SseEmitter emitter : emitters) {
-            String userId = emitterUserMap.get(emitter);
-            if (userId == null) continue;
-            
+        if (dispatcher.isEmpty()) {
+            finnhubService.updateDashboardDemand(List.of());
+            return;
+        }
+
+        // warming 여부를 먼저 읽어야 첫 갱신 완료 직후에도 weather와 어긋나지 않음
+        boolean weatherWarming = dashboardService.isWeatherWarming();
+        List<WeatherData> weather = dashboardService.getWeatherData();
+        NewsData news = dashboardService.getNewsData();
+        DashboardData.SystemData system = dashboardService.getSystemData();
+        SharedSections shared;
+        try {
+            shared = payloadEncoder.encodeShared(weather, weatherWarming, news, system);
+        } catch (Exception e) {
+            log.error("Failed to serialize shared dashboard sections: {}", e.getMessage());
+            return;
+        }
+
+        Map<String, List<TickerConfig>> tickersByUser = new HashMap<>();
+        Map<List<TickerConfig>, Snapshot> snapshotByTickers = new HashMap<>();
+        Map<List<TickerConfig>, byte[]> payloadByTickers = new HashMap<>();
+        DashboardDeltaTracker.DeltaCache deltas = new DashboardDeltaTracker.DeltaCache();
+        Map<String, StockQuote> quotesBySymbol = new LinkedHashMap<>();
+        int deltaCount = 0;
+
+        for (SseConnection connection : dispatcher.connections()) {
+            String userId = connection.userId();
+
             try {
-                DashboardData data = dashboardService.getFullData(userId);
-                broadcastToEmitter(emitter, "dashboard", data);
-                
-                // 알림 조건 검사 (한 번만 수행)
-                if (emitter == emitters.get(0) && data.stocks() != null && data.stocks().quotes() != null) {
-                    alertIntegrationService.checkStockAlerts(data.stocks().quotes());
+                List<TickerConfig> tickers = tickersByUser.computeIfAbsent(
+                        userId, id -> dashboardService.getConfig(id).tickers());
+                Snapshot snapshot = snapshotByTickers.get(tickers);
+                if (snapshot == null) {
+                    StocksData stocks = dashboardService.getStocksData(tickers);
+                    stocks.quotes().forEach(q -> quotesBySymbol.putIfAbsent(q.symbol(), q));
+                    snapshot = new Snapshot(deltaTracker.nextVersion(), stocks, weather, weatherWarming, news);
+                    snapshotByTickers.put(tickers, snapshot);
                 }
-                if (emitter == emitters.get(0) && data.weather() != null) {
-                    alertIntegrationService.checkWeatherAlerts(data.weather());
+
+                Snapshot base = deltaTracker.lastSent(connection);
+                if (base == null) {
+                    byte[] payload = payloadByTickers.get(tickers);
+                    if (payload == null) {
+                        payload = payloadEncoder.assembleFull(
+                                shared, payloadEncoder.encodeStocks(snapshot.stocks()), snapshot.version());
+                        payloadByTickers.put(tickers, payload);
+                    }
+                    dispatcher.send(connection, "dashboard", payload, MediaType.APPLICATION_JSON);
+                } else {
+                    byte[] delta = deltas.get(base, snapshot);
+                    if (delta == null) {
+                        delta = payloadEncoder.encodeDelta(deltaTracker.diff(base, snapshot, system));
+                        deltas.put(base, snapshot, delta);
+                    }
+                    dispatcher.send(connection, "dashboard-delta", delta, MediaType.APPLICATION_JSON);
+                    deltaCount++;
                 }
+                deltaTracker.recordSent(connection, snapshot);
             } catch (Exception e) {
+                deltaTracker.reset(connection);
                 log.debug("Failed to broadcast to user {}: {}", userId, e.getMessage());
             }
         }
+        // 접속 중인 대시보드가 보는 티커만 자주 갱신되도록 수요 갱신
+        finnhubService.updateDashboardDemand(tickersByUser.values().stream()
+                .flatMap(List::stream)
+                .map(TickerConfig::symbol)
+                .toList());
+        log.debug("Queued full data: {} users, {} distinct ticker sets, {} deltas", 
+                tickersByUser.size(), snapshotByTickers.size(), deltaCount);
+
+        // 알림 조건 검사 (틱당 한 번)
+        try {
+            if (!quotesBySymbol.isEmpty()) {
+                alertIntegrationService.checkStockAlerts(new ArrayList<>(quotesBySymbol.values()));
+            }
+            alertIntegrationService.checkWeatherAlerts(weather);
+        } catch (Exception e) {
+            log.debug("Dashboard alert check error: {}", e.getMessage());
+        }
     }
 
     /**
      * 특정 사용자에게 전체 데이터 브로드캐스트
      */
     private void broadcastFullDataForUser(String userId) {
-        if (emitters.isEmpty()) {
+        if (dispatcher.isEmpty()) {
             log.debug("No active emitters for user {} broadcast", userId);
             return;
         }
@@ -241,22 +347,21 @@ public class DashboardController {
             
             int sentCount = 0;
             // 해당 사용자의 모든 emitter에 전송
-            for (SseEmitter emitter : emitters) {
-                String emitterUserId = emitterUserMap.get(emitter);
-                if (userId.equals(emitterUserId)) {
+            for (SseConnection connection : dispatcher.connections()) {
+                if (userId.equals(connection.userId())) {
                     log.debug("Broadcasting data to user {} emitter, stocks: {}", 
                             userId, data.stocks() != null && data.stocks().quotes() != null 
                             ? data.stocks().quotes().size() : 0);
-                    broadcastToEmitter(emitter, "dashboard", data);
+                    sendFull(connection, data);
                     sentCount++;
                 }
             }
             
             if (sentCount == 0) {
                 log.warn("No active emitter found for user {} to broadcast data. Active emitters: {}", 
-                        userId, emitters.size());
+                        userId, dispatcher.size());
             } else {
-                log.debug("Successfully broadcasted data to {} emitter(s) for user {}", sentCount, userId);
+                log.debug("Queued data for {} emitter(s) of user {}", sentCount, userId);
             }
 
             // 알림 조건 검사
@@ -271,8 +376,22 @@ public class DashboardController {
         }
     }
 
+    /**
+     * 새 version을 매긴 전체 스냅샷 전송 (이후 브로드캐스트는 이 스냅샷 기준 변경분)
+     */
+    private void sendFull(SseConnection connection, DashboardData data) throws Exception {
+        Snapshot snapshot = new Snapshot(deltaTracker.nextVersion(), data.stocks(), data.weather(),
+                data.weatherWarming(), data.news());
+        SharedSections shared = payloadEncoder.encodeShared(
+                data.weather(), data.weatherWarming(), data.news(), data.system());
+        byte[] payload = payloadEncoder.assembleFull(
+                shared, payloadEncoder.encodeStocks(data.stocks()), snapshot.version());
+        dispatcher.send(connection, "dashboard", payload, MediaType.APPLICATION_JSON);
+        deltaTracker.recordSent(connection, snapshot);
+    }
+
     private void broadcastSystemData() {
-        if (emitters.isEmpty()) return;
+        if (dispatcher.isEmpty()) return;
 
         DashboardData.SystemData systemData = dashboardService.getSystemData();
         DashboardData data = DashboardData.system(systemData);
@@ -286,44 +405,39 @@ public class DashboardController {
         } catch (Exception e) {
             log.debug("System alert check error: {}", e.getMessage());
         }
+
+        broadcastJvmTelemetry();
     }
 
     /**
-     * 단일 emitter에 이벤트 전송
+     * 새로 닫힌 JFR 텔레메트리 구간이 있으면 "jvm" 이벤트로 브로드캐스트 (시스템 틱에서 호출)
      */
-    private void broadcastToEmitter(SseEmitter emitter, String eventName, DashboardData data) {
-        if (data == null) return;
-        
-        String jsonData;
-        try {
-            jsonData = objectMapper.writeValueAsString(data);
-        } catch (Exception e) {
-            log.error("Failed to serialize data: {}", e.getMessage());
-            return;
-        }
+    private void broadcastJvmTelemetry() {
+        JvmTelemetryWindow window = jvmTelemetryService.latest();
+        if (window == null || window == lastJvmWindow) return;
+        lastJvmWindow = window;
 
         try {
-            emitter.send(SseEmitter.event()
-                    .name(eventName)
-                    .data(jsonData));
-            
-            // 데이터 전송 로그 (디버깅용)
-            if ("dashboard".equals(eventName) && data.stocks() != null) {
-                log.debug("Sent dashboard data via SSE: {} stocks", data.stocks().quotes().size());
-            }
+            dispatcher.broadcast("jvm", objectMapper.writeValueAsString(window), null);
         } catch (Exception e) {
-            // 클라이언트 연결 끊김 - 제거 대상으로 표시
-            log.debug("Failed to send SSE event: {}", e.getMessage());
-            emitters.remove(emitter);
-            emitterUserMap.remove(emitter);
+            log.error("Failed to serialize JVM telemetry: {}", e.getMessage());
         }
     }
 
+    /**
+     * 캐시별 적중률/로드 지연/항목 나이를 "cache" 이벤트로 브로드캐스트
+     */
+    private void broadcastCacheMetrics() throws Exception {
+        if (dispatcher.isEmpty()) return;
+        dispatcher.broadcast("cache", objectMapper.writeValueAsString(cacheMetrics.getSnapshot()), null);
+    }
+
     /**
      * 모든 emitter에 동일한 데이터 브로드캐스트 (시스템 데이터 등 공통 데이터용)
+     * 한 번 직렬화 후 각 연결의 송신 큐에 넣기만 하므로 느린 클라이언트가 있어도 바로 반환
      */
     private void broadcast(String eventName, DashboardData data) {
-        if (emitters.isEmpty() || data == null) return;
+        if (dispatcher.isEmpty() || data == null) return;
         
         String jsonData;
         try {
@@ -333,31 +447,14 @@ public class DashboardController {
             return;
         }
 
-        List<SseEmitter> deadEmitters = new CopyOnWriteArrayList<>();
-
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name(eventName)
-                        .data(jsonData));
-            } catch (Exception e) {
-                // Any error means client disconnected - just mark for removal
-                deadEmitters.add(emitter);
-            }
-        }
-
-        if (!deadEmitters.isEmpty()) {
-            emitters.removeAll(deadEmitters);
-            deadEmitters.forEach(emitterUserMap::remove);
-            log.debug("Removed {} dead emitters. Active: {}", deadEmitters.size(), emitters.size());
-        }
+        dispatcher.broadcast(eventName, jsonData, null);
     }
 
     /**
      * 알림 브로드캐스트
      */
     public void broadcastAlert(AlertEventDto alert) {
-        if (emitters.isEmpty()) return;
+        if (dispatcher.isEmpty()) return;
 
         String jsonData;
         try {
@@ -367,23 +464,7 @@ public class DashboardController {
             return;
         }
 
-        List<SseEmitter> deadEmitters = new CopyOnWriteArrayList<>();
-
-        for (SseEmitter emitter : emitters) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("alert")
-                        .data(jsonData));
-            } catch (Exception e) {
-                // Any error means client disconnected - just mark for removal
-                deadEmitters.add(emitter);
-            }
-        }
-
-        if (!deadEmitters.isEmpty()) {
-            emitters.removeAll(deadEmitters);
-            log.debug("Removed {} dead emitters after alert. Active: {}", deadEmitters.size(), emitters.size());
-        }
+        dispatcher.broadcast("alert", jsonData, null);
     }
 
     /**
@@ -391,6 +472,6 @@ public class DashboardController {
      */
     @GetMapping("/connections")
     public ResponseEntity<Integer> getConnectionCount() {
-        return ResponseEntity.ok(emitters.size());
+        return ResponseEntity.ok(dispatcher.size());
     }
 }
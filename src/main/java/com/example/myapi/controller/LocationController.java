@@ -1,19 +1,32 @@
 package com.example.myapi.controller;
 
 import com.example.myapi.dto.location.LocationWeatherResponse;
+import com.example.myapi.service.CityCatalog;
 import com.example.myapi.service.LocationWeatherService;
+import com.example.myapi.service.WeatherService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/location")
 public class LocationController {
 
     private final LocationWeatherService locationWeatherService;
+    private final CityCatalog cityCatalog;
+    private final WeatherService weatherService;
 
-    public LocationController(LocationWeatherService locationWeatherService) {
+    public LocationController(LocationWeatherService locationWeatherService,
+                              CityCatalog cityCatalog,
+                              WeatherService weatherService) {
         this.locationWeatherService = locationWeatherService;
+        this.cityCatalog = cityCatalog;
+        this.weatherService = weatherService;
     }
 
     /**
@@ -24,4 +37,23 @@ public class LocationController {
     public LocationWeatherResponse getLocationWeather() {
         return locationWeatherService.getLocationWeather();
     }
+
+    /**
+     * 좌표에서 가장 가까운 도시와 가장 가까운 날씨 갱신 도시의 캐시된 날씨 (외부 API 호출 없음)
+     * GET /api/location/nearest?lat=37.5&lon=127.0
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<Map<String, Object>> getNearest(
+            @RequestParam double lat,
+            @RequestParam double lon) {
+        return cityCatalog.nearest(lat, lon)
+                .map(nearest -> {
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("city", nearest.city());
+                    result.put("distanceKm", Math.round(nearest.distanceKm() * 10) / 10.0);
+                    result.put("weather", weatherService.getNearestWeather(lat, lon).orElse(null));
+                    return ResponseEntity.ok(result);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.myapi.controller;
+
+import com.example.myapi.dto.news.NewsSearchResponse;
+import com.example.myapi.service.NewsSearchIndex;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * News search over RSS feeds and bs4news_news (in-memory index, no DB round-trip)
+ */
+@RestController
+@RequestMapping("/api/news")
+public class NewsSearchController {
+
+    private final NewsSearchIndex newsSearchIndex;
+
+    public NewsSearchController(NewsSearchIndex newsSearchIndex) {
+        this.newsSearchIndex = newsSearchIndex;
+    }
+
+    /**
+     * 뉴스 검색
+     * GET /api/news/search?q=삼성전자&type=db&page=0&size=20
+     */
+    @GetMapping("/search")
+    public NewsSearchResponse search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return newsSearchIndex.search(q, type, page, size);
+    }
+
+    /**
+     * 검색 색인 상태
+     * GET /api/news/search/status
+     */
+    @GetMapping("/search/status")
+    public Map<String, Object> getStatus() {
+        return newsSearchIndex.getStatus();
+    }
+}
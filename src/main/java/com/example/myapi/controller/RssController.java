@@ -1,6 +1,8 @@
 package com.example.myapi.controller;
 
+import com.example.myapi.dto.rss.NewsTimelineResponse;
 import com.example.myapi.dto.rss.RssFeedResponse;
+import com.example.myapi.service.NewsTimelineIndex;
 import com.example.myapi.service.RssService;
 import org.springframework.web.bind.annotation.*;
 
@@ -9,17 +11,21 @@ import java.util.Map;
 /**
  * RSS Feed Controller
  * 
- * All feeds are cached for 10 minutes per URL.
- * First call fetches from source, subsequent calls within 10 minutes return cache.
+ * All feeds are cached per URL (10 minutes initially, adapted to how often each feed changes).
+ * First call fetches from source; later calls return the cache immediately and
+ * expired feeds are revalidated in the background. The cache is bounded by feed count
+ * and estimated size; least recently read feeds are evicted first.
  */
 @RestController
 @RequestMapping("/api/rss")
 public class RssController {
 
     private final RssService rssService;
+    private final NewsTimelineIndex timelineIndex;
 
-    public RssController(RssService rssService) {
+    public RssController(RssService rssService, NewsTimelineIndex timelineIndex) {
         this.rssService = rssService;
+        this.timelineIndex = timelineIndex;
     }
 
     // ==================== Yahoo Finance ====================
@@ -91,6 +97,31 @@ public class RssController {
         return rssService.getCustomFeed(url);
     }
 
+    // ==================== Timeline ====================
+
+    /**
+     * Merged news timeline (deduplicated, newest first)
+     * GET /api/rss/timeline?source=yahoo&cursor=...&limit=20
+     */
+    @GetMapping("/timeline")
+    public NewsTimelineResponse getTimeline(
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return timelineIndex.page(source, cursor, limit);
+    }
+
+    /**
+     * Timeline items added after the given sequence (ingest order)
+     * GET /api/rss/timeline/since?sequence=120&limit=100
+     */
+    @GetMapping("/timeline/since")
+    public NewsTimelineResponse getTimelineSince(
+            @RequestParam(defaultValue = "0") long sequence,
+            @RequestParam(defaultValue = "100") int limit) {
+        return timelineIndex.since(sequence, limit);
+    }
+
     // ==================== Cache Status ====================
 
     /**
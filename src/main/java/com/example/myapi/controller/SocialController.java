@@ -1,5 +1,6 @@
 package com.example.myapi.controller;
 
+import com.example.myapi.dto.news.NewsSnapshot;
 import com.example.myapi.service.EmergencyService;
 import com.example.myapi.service.NewsService;
 import com.example.myapi.service.TrafficService;
@@ -7,11 +8,17 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -30,15 +37,35 @@ public class SocialController {
     @Autowired
     private EmergencyService emergencyService;
 
+    /**
+     * 뉴스 목록 (캐시 갱신 시 미리 직렬화된 스냅샷)
+     * ETag가 같으면 304, gzip 지원 클라이언트에는 미리 압축된 본문 전송 (ETag에 -gz 접미사)
+     */
     @GetMapping(value = "/news", produces = MediaType.APPLICATION_JSON_VALUE)
-    public String getNews() {
+    public ResponseEntity<byte[]> getNews(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
-            JsonArray newsArray = newsService.getCachedNews();
-            JsonObject result = new JsonObject();
-            JsonObject data = new JsonObject();
-            data.add("items", newsArray);
-            result.add("data", data);
-            return result.toString();
+            NewsSnapshot snapshot = newsService.getNewsSnapshot();
+            boolean gzip = snapshot.gzip() != null && acceptsGzip(acceptEncoding);
+            String etag = gzip ? gzipEtag(snapshot.etag()) : snapshot.etag();
+            if (etagMatches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache())
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (gzip) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+            }
+            return response.body(snapshot.json());
         } catch (Exception e) {
             log.error("Error getting news: {}", e.getMessage());
             JsonObject result = new JsonObject();
@@ -46,8 +73,71 @@ public class SocialController {
             JsonArray emptyArray = new JsonArray();
             data.add("items", emptyArray);
             result.add("data", data);
-            return result.toString();
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(result.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Accept-Encoding에서 gzip 허용 여부 (q=0은 거부, gzip이 없으면 * 항목을 따름)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
         }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    /**
+     * gzip 본문용 ETag ("abc" → "abc-gz", 약한 ETag 표시는 유지)
+     */
+    static String gzipEtag(String etag) {
+        if (etag.endsWith("\"")) {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+        return etag + "-gz";
+    }
+
+    private boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @GetMapping(value = "/traffic", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -153,12 +243,7 @@ public class SocialController {
 
         // Send initial data
         try {
-            JsonObject result = new JsonObject();
-            JsonArray newsArray = newsService.getCachedNews();
-            JsonObject data = new JsonObject();
-            data.add("items", newsArray);
-            result.add("data", data);
-            emitter.send(SseEmitter.event().data(result.toString()));
+            emitter.send(SseEmitter.event().data(newsSnapshotJson()));
         } catch (Exception e) {
             log.error("Error sending initial news data: {}", e.getMessage());
         }
@@ -166,12 +251,7 @@ public class SocialController {
         // Schedule periodic updates
         scheduler.scheduleAtFixedRate(() -> {
             try {
-                JsonObject result = new JsonObject();
-                JsonArray newsArray = newsService.getCachedNews();
-                JsonObject data = new JsonObject();
-                data.add("items", newsArray);
-                result.add("data", data);
-                emitter.send(SseEmitter.event().data(result.toString()));
+                emitter.send(SseEmitter.event().data(newsSnapshotJson()));
             } catch (IOException e) {
                 log.error("Error sending news update: {}", e.getMessage());
                 emitter.completeWithError(e);
@@ -183,6 +263,10 @@ public class SocialController {
         return emitter;
     }
 
+    private String newsSnapshotJson() {
+        return new String(newsService.getNewsSnapshot().json(), StandardCharsets.UTF_8);
+    }
+
     @GetMapping(value = "/traffic/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamTraffic() {
         SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
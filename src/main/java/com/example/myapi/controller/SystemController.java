@@ -1,13 +1,21 @@
 package com.example.myapi.controller;
 
+import com.example.myapi.dto.system.JvmTelemetryWindow;
 import com.example.myapi.dto.system.SystemHistoryDto;
+import com.example.myapi.dto.system.SystemHistorySeries;
 import com.example.myapi.dto.system.SystemStatusResponse;
+import com.example.myapi.service.CacheMetricsRegistry;
+import com.example.myapi.service.JvmTelemetryService;
+import com.example.myapi.service.RequestMetricsRegistry;
 import com.example.myapi.service.SystemHistoryService;
+import com.example.myapi.service.SystemHistoryWriter;
+import com.example.myapi.service.SystemMetricsRing;
 import com.example.myapi.service.SystemStatusService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/system")
@@ -16,11 +24,26 @@ public class SystemController {
 
     private final SystemStatusService systemStatusService;
     private final SystemHistoryService historyService;
+    private final SystemHistoryWriter historyWriter;
+    private final SystemMetricsRing metricsRing;
+    private final JvmTelemetryService jvmTelemetryService;
+    private final RequestMetricsRegistry requestMetrics;
+    private final CacheMetricsRegistry cacheMetrics;
 
     public SystemController(SystemStatusService systemStatusService,
-                           SystemHistoryService historyService) {
+                           SystemHistoryService historyService,
+                           SystemHistoryWriter historyWriter,
+                           SystemMetricsRing metricsRing,
+                           JvmTelemetryService jvmTelemetryService,
+                           RequestMetricsRegistry requestMetrics,
+                           CacheMetricsRegistry cacheMetrics) {
         this.systemStatusService = systemStatusService;
         this.historyService = historyService;
+        this.historyWriter = historyWriter;
+        this.metricsRing = metricsRing;
+        this.jvmTelemetryService = jvmTelemetryService;
+        this.requestMetrics = requestMetrics;
+        this.cacheMetrics = cacheMetrics;
     }
 
     /**
@@ -35,28 +58,101 @@ public class SystemController {
     }
 
     /**
-     * 시스템 히스토리 조회
-     * GET /api/system/history?period=1h|24h|7d
+     * 시스템 히스토리 조회 (구간 평균, 최대 maxPoints개)
+     * GET /api/system/history?period=1h|24h|7d|30d&maxPoints=300
      */
     @GetMapping("/history")
     public ResponseEntity<List<SystemHistoryDto>> getHistory(
-            @RequestParam(defaultValue = "1h") String period) {
-        List<SystemHistoryDto> history = historyService.getHistory(period).stream()
+            @RequestParam(defaultValue = "1h") String period,
+            @RequestParam(defaultValue = "300") int maxPoints) {
+        List<SystemHistoryDto> history = historyService.getSeries(period, maxPoints).points().stream()
                 .map(SystemHistoryDto::from)
                 .toList();
         return ResponseEntity.ok(history);
     }
 
     /**
-     * 최근 시스템 히스토리 조회
+     * 시스템 히스토리 시계열 (집계 계층, 구간별 min/max/avg)
+     * GET /api/system/history/series?period=24h&maxPoints=300
+     */
+    @GetMapping("/history/series")
+    public SystemHistorySeries getHistorySeries(
+            @RequestParam(defaultValue = "1h") String period,
+            @RequestParam(defaultValue = "300") int maxPoints) {
+        return historyService.getSeries(period, maxPoints);
+    }
+
+    /**
+     * 히스토리 저장 버퍼 상태
+     * GET /api/system/history/writer
+     */
+    @GetMapping("/history/writer")
+    public Map<String, Object> getHistoryWriterStatus() {
+        return historyWriter.getStatus();
+    }
+
+    /**
+     * 최근 시스템 샘플 조회 (메모리 링 버퍼, 1초 간격)
      * GET /api/system/history/recent?count=60
      */
     @GetMapping("/history/recent")
     public ResponseEntity<List<SystemHistoryDto>> getRecentHistory(
             @RequestParam(defaultValue = "60") int count) {
-        List<SystemHistoryDto> history = historyService.getRecentHistory(count).stream()
-                .map(SystemHistoryDto::from)
-                .toList();
-        return ResponseEntity.ok(history);
+        return ResponseEntity.ok(historyService.getRecentHistory(count));
+    }
+
+    /**
+     * 실시간 메트릭 링 버퍼 상태
+     * GET /api/system/history/live
+     */
+    @GetMapping("/history/live")
+    public Map<String, Object> getLiveBufferStatus() {
+        return metricsRing.getStatus();
+    }
+
+    /**
+     * JFR 텔레메트리 집계 구간 조회 (GC 일시정지, 할당률, safepoint, 풀별 CPU, 락 경합)
+     * GET /api/system/jvm?count=60
+     */
+    @GetMapping("/jvm")
+    public List<JvmTelemetryWindow> getJvmTelemetry(
+            @RequestParam(defaultValue = "60") int count) {
+        return jvmTelemetryService.recent(count);
+    }
+
+    /**
+     * JFR 텔레메트리 스트림 상태
+     * GET /api/system/jvm/status
+     */
+    @GetMapping("/jvm/status")
+    public Map<String, Object> getJvmTelemetryStatus() {
+        return jvmTelemetryService.getStatus();
+    }
+
+    /**
+     * 라우트/외부 의존성별 지연 시간 백분위, 처리량, 오류율, 진행 중 요청 수
+     * GET /api/system/metrics
+     */
+    @GetMapping("/metrics")
+    public Map<String, Object> getRequestMetrics() {
+        return requestMetrics.getSnapshot();
+    }
+
+    /**
+     * 같은 지표의 Prometheus text format
+     * GET /api/system/metrics/prometheus
+     */
+    @GetMapping(value = "/metrics/prometheus", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String getPrometheusMetrics() {
+        return requestMetrics.toPrometheus();
+    }
+
+    /**
+     * 캐시별 적중률, 로드 지연 시간, 항목 수, 항목 나이 분포
+     * GET /api/system/caches
+     */
+    @GetMapping("/caches")
+    public List<Map<String, Object>> getCacheMetrics() {
+        return cacheMetrics.getSnapshot();
     }
 }
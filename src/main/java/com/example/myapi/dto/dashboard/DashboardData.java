@@ -1,6 +1,7 @@
 package com.example.myapi.dto.dashboard;
 
 import com.example.myapi.dto.finnhub.FinnhubQuoteResponse;
+import com.example.myapi.dto.rss.NewsTimelineItem;
 import com.example.myapi.dto.rss.RssItem;
 import com.example.myapi.dto.weather.CityWeatherResponse;
 
@@ -15,27 +16,29 @@ public record DashboardData(
         Instant timestamp,
         StocksData stocks,
         List<WeatherData> weather,
+        Boolean weatherWarming,                   // 서버 시작 후 첫 날씨 갱신 전이면 true (weather가 비어 있어도 "데이터 없음"이 아님)
         NewsData news,
         SystemData system
 ) {
     public static DashboardData stocks(StocksData stocks) {
-        return new DashboardData("stocks", Instant.now(), stocks, null, null, null);
+        return new DashboardData("stocks", Instant.now(), stocks, null, null, null, null);
     }
 
-    public static DashboardData weather(List<WeatherData> weather) {
-        return new DashboardData("weather", Instant.now(), null, weather, null, null);
+    public static DashboardData weather(List<WeatherData> weather, boolean weatherWarming) {
+        return new DashboardData("weather", Instant.now(), null, weather, weatherWarming, null, null);
     }
 
     public static DashboardData news(NewsData news) {
-        return new DashboardData("news", Instant.now(), null, null, news, null);
+        return new DashboardData("news", Instant.now(), null, null, null, news, null);
     }
 
     public static DashboardData system(SystemData system) {
-        return new DashboardData("system", Instant.now(), null, null, null, system);
+        return new DashboardData("system", Instant.now(), null, null, null, null, system);
     }
 
-    public static DashboardData full(StocksData stocks, List<WeatherData> weather, NewsData news, SystemData system) {
-        return new DashboardData("full", Instant.now(), stocks, weather, news, system);
+    public static DashboardData full(StocksData stocks, List<WeatherData> weather, boolean weatherWarming,
+                                     NewsData news, SystemData system) {
+        return new DashboardData("full", Instant.now(), stocks, weather, weatherWarming, news, system);
     }
 
     // 주식 데이터
@@ -123,6 +126,15 @@ public record DashboardData(
                     item.pubDate()
             );
         }
+
+        public static NewsItem from(NewsTimelineItem item) {
+            return new NewsItem(
+                    item.title(),
+                    item.link(),
+                    item.source(),
+                    item.pubDate()
+            );
+        }
     }
 
     // 시스템 데이터
@@ -0,0 +1,32 @@
+package com.example.myapi.dto.dashboard;
+
+import com.example.myapi.dto.dashboard.DashboardData.NewsData;
+import com.example.myapi.dto.dashboard.DashboardData.StocksData;
+import com.example.myapi.dto.dashboard.DashboardData.SystemData;
+import com.example.myapi.dto.dashboard.DashboardData.WeatherData;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dashboard SSE 변경분 DTO ("dashboard-delta" 이벤트)
+ * baseVersion 스냅샷 대비 바뀐 섹션만 포함 (바뀌지 않은 섹션은 null → JSON에서 생략)
+ * 클라이언트의 현재 version이 baseVersion과 다르면 /api/dashboard/resync로 전체 스냅샷 재요청
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DashboardDelta(
+        String type,                              // "delta"
+        long version,
+        long baseVersion,
+        Instant timestamp,
+        StocksData stocks,                        // 티커 구성이 바뀐 경우에만 전체 주식 섹션
+        List<Map<String, Object>> quotes,         // 티커 구성이 같으면 값이 바뀐 종목의 변경 필드만 (symbol 포함)
+        Instant stocksFetchedAt,
+        List<WeatherData> weather,
+        Boolean weatherWarming,                   // 기준 스냅샷과 달라졌을 때만
+        NewsData news,
+        SystemData system
+) {
+}
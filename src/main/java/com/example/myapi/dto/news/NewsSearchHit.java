@@ -0,0 +1,18 @@
+package com.example.myapi.dto.news;
+
+import java.time.Instant;
+
+/**
+ * News search result item
+ * type: rss (RSS 피드) / db (bs4news_news)
+ */
+public record NewsSearchHit(
+        String id,
+        String type,
+        String title,
+        String snippet,
+        String link,
+        String source,
+        Instant publishedAt,
+        double score
+) {}
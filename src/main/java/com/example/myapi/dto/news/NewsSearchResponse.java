@@ -0,0 +1,15 @@
+package com.example.myapi.dto.news;
+
+import java.util.List;
+
+/**
+ * News search page
+ */
+public record NewsSearchResponse(
+        String query,
+        int total,
+        int page,
+        int size,
+        List<NewsSearchHit> items,
+        double tookMillis
+) {}
@@ -0,0 +1,13 @@
+package com.example.myapi.dto.news;
+
+/**
+ * Pre-rendered /api/social/news response
+ * 캐시 갱신 시 한 번만 직렬화, 배열은 공유되므로 수정하지 않음
+ * gzip: 본문이 작으면 null
+ */
+public record NewsSnapshot(
+        long version,
+        String etag,
+        byte[] json,
+        byte[] gzip
+) {}
@@ -0,0 +1,17 @@
+package com.example.myapi.dto.rss;
+
+import java.time.Instant;
+
+/**
+ * News timeline item (deduplicated across feeds)
+ * sequence: 인덱스에 들어온 순서 (since 조회 커서)
+ */
+public record NewsTimelineItem(
+        long sequence,
+        String title,
+        String link,
+        String description,
+        String pubDate,
+        String source,
+        Instant publishedAt
+) {}
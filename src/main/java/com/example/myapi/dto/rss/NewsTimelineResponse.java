@@ -0,0 +1,14 @@
+package com.example.myapi.dto.rss;
+
+import java.util.List;
+
+/**
+ * News timeline page
+ * nextCursor: 다음(더 오래된) 페이지 커서, 없으면 null
+ * latestSequence: 다음 since 조회에 사용할 마지막 sequence
+ */
+public record NewsTimelineResponse(
+        List<NewsTimelineItem> items,
+        String nextCursor,
+        long latestSequence
+) {}
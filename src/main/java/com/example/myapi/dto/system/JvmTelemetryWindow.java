@@ -0,0 +1,35 @@
+package com.example.myapi.dto.system;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * JFR 텔레메트리 집계 구간
+ * gcPauseHistogram: 일시정지 길이 구간별 GC 횟수 (<1ms, 1-5ms, 5-20ms, 20-100ms, >=100ms)
+ * threadCpuByPool: 스레드 풀(이름의 숫자 접미사 제거)별 평균 CPU 사용률 (%)
+ */
+public record JvmTelemetryWindow(
+        Instant start,
+        Instant end,
+
+        // GC
+        int gcCount,
+        double gcPauseTotalMs,
+        double gcPauseMaxMs,
+        Map<String, Integer> gcPauseHistogram,
+
+        // 할당 (JFR 샘플 가중치 기반 추정, bytes/s)
+        double allocationRate,
+
+        // Safepoint
+        int safepointCount,
+        double safepointTotalMs,
+        double safepointMaxMs,
+
+        // 락 경합 (lock-threshold-ms 이상 대기한 모니터 진입)
+        int lockContentionCount,
+        double lockContentionMaxMs,
+        Map<String, Integer> lockContentionByClass,
+
+        Map<String, Double> threadCpuByPool
+) {}
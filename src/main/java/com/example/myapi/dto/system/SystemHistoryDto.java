@@ -37,4 +37,24 @@ public record SystemHistoryDto(
                 entity.getGcTime()
         );
     }
+
+    /**
+     * 집계 포인트 변환 (퍼센트 지표는 평균값)
+     */
+    public static SystemHistoryDto from(SystemHistoryPoint point) {
+        return new SystemHistoryDto(
+                null,
+                point.timestamp(),
+                point.cpuAvg(),
+                point.memoryAvg(),
+                point.memoryUsed(),
+                point.memoryTotal(),
+                point.heapAvg(),
+                point.heapUsed(),
+                point.heapMaxBytes(),
+                point.threadCount(),
+                point.gcCount(),
+                point.gcTime()
+        );
+    }
 }
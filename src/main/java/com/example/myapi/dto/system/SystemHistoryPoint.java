@@ -0,0 +1,34 @@
+package com.example.myapi.dto.system;
+
+import java.time.Instant;
+
+/**
+ * 시스템 히스토리 집계 포인트 (원본 샘플이면 min = max = avg, samples = 1)
+ * 퍼센트 지표는 min/max/avg, 나머지는 구간 평균(사용량) 또는 최대값(누적/총량)
+ * JFR 지표: 일시정지/safepoint 최대는 구간 최대, 일시정지 합계와 락 경합은 구간 합, 할당률은 구간 평균 (JFR을 쓸 수 없었으면 null)
+ */
+public record SystemHistoryPoint(
+        Instant timestamp,
+        int samples,
+        Double cpuAvg,
+        Double cpuMin,
+        Double cpuMax,
+        Double memoryAvg,
+        Double memoryMin,
+        Double memoryMax,
+        Double heapAvg,
+        Double heapMin,
+        Double heapMax,
+        Long memoryUsed,
+        Long memoryTotal,
+        Long heapUsed,
+        Long heapMaxBytes,
+        Integer threadCount,
+        Long gcCount,
+        Long gcTime,
+        Double gcPauseMaxMs,
+        Double gcPauseTotalMs,
+        Double allocationRate,
+        Double safepointMaxMs,
+        Long lockContentionCount
+) {}
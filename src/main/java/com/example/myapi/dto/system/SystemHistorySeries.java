@@ -0,0 +1,16 @@
+package com.example.myapi.dto.system;
+
+import java.util.List;
+
+/**
+ * 기간별 시스템 히스토리 시계열
+ * tier: raw / 1m / 5m / 1h (기간에 따라 자동 선택)
+ * sourcePoints: 다운샘플링 전 포인트 수
+ */
+public record SystemHistorySeries(
+        String period,
+        String tier,
+        int bucketSeconds,
+        int sourcePoints,
+        List<SystemHistoryPoint> points
+) {}
@@ -5,7 +5,7 @@ import java.time.Instant;
 
 /**
  * 시스템 히스토리 엔티티
- * 1분 단위로 시스템 메트릭 저장
+ * 원본 메트릭 샘플 (수집 주기마다 1건, 24시간 보관 후 집계 계층만 유지)
  */
 @Entity
 @Table(name = "system_history")
@@ -48,6 +48,22 @@ public class SystemHistory {
     @Column(name = "gc_time")
     private Long gcTime;
 
+    // JFR 텔레메트리 (직전 집계 구간 값, JFR을 쓸 수 없으면 null)
+    @Column(name = "gc_pause_max_ms")
+    private Double gcPauseMaxMs;
+
+    @Column(name = "gc_pause_total_ms")
+    private Double gcPauseTotalMs;
+
+    @Column(name = "allocation_rate")
+    private Double allocationRate;
+
+    @Column(name = "safepoint_max_ms")
+    private Double safepointMaxMs;
+
+    @Column(name = "lock_contention_count")
+    private Integer lockContentionCount;
+
     public SystemHistory() {
     }
 
@@ -154,4 +170,44 @@ public class SystemHistory {
     public void setGcTime(Long gcTime) {
         this.gcTime = gcTime;
     }
+
+    public Double getGcPauseMaxMs() {
+        return gcPauseMaxMs;
+    }
+
+    public void setGcPauseMaxMs(Double gcPauseMaxMs) {
+        this.gcPauseMaxMs = gcPauseMaxMs;
+    }
+
+    public Double getGcPauseTotalMs() {
+        return gcPauseTotalMs;
+    }
+
+    public void setGcPauseTotalMs(Double gcPauseTotalMs) {
+        this.gcPauseTotalMs = gcPauseTotalMs;
+    }
+
+    public Double getAllocationRate() {
+        return allocationRate;
+    }
+
+    public void setAllocationRate(Double allocationRate) {
+        this.allocationRate = allocationRate;
+    }
+
+    public Double getSafepointMaxMs() {
+        return safepointMaxMs;
+    }
+
+    public void setSafepointMaxMs(Double safepointMaxMs) {
+        this.safepointMaxMs = safepointMaxMs;
+    }
+
+    public Integer getLockContentionCount() {
+        return lockContentionCount;
+    }
+
+    public void setLockContentionCount(Integer lockContentionCount) {
+        this.lockContentionCount = lockContentionCount;
+    }
 }
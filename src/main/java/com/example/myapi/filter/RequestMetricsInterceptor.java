@@ -0,0 +1,58 @@
+package com.example.myapi.filter;
+
+import com.example.myapi.service.RequestMetricsRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 컨트롤러 요청 지연 시간 기록
+ * - 라우트는 "메서드 URL패턴" (예: GET /api/rss/timeline), 경로 변수 값으로 라벨이 늘어나지 않음
+ * - 정적 리소스는 제외, SSE 스트림처럼 비동기로 넘어간 요청은 기록하지 않음
+ */
+@Component
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String CALL_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".call";
+
+    private final RequestMetricsRegistry registry;
+
+    public RequestMetricsInterceptor(RequestMetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + " " + (pattern != null ? pattern : RequestMetricsRegistry.OTHER);
+        request.setAttribute(CALL_ATTRIBUTE, registry.startRoute(route));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(CALL_ATTRIBUTE) instanceof RequestMetricsRegistry.Call call) {
+            call.abandon();
+            request.removeAttribute(CALL_ATTRIBUTE);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(CALL_ATTRIBUTE) instanceof RequestMetricsRegistry.Call call) {
+            request.removeAttribute(CALL_ATTRIBUTE);
+            if (ex != null) {
+                call.end(true);
+            } else {
+                call.end(response.getStatus());
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.myapi.repository;
 
 import com.example.myapi.entity.SystemHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +14,7 @@ import java.util.List;
 public interface SystemHistoryRepository extends JpaRepository<SystemHistory, Long> {
     List<SystemHistory> findByTimestampAfterOrderByTimestampAsc(Instant after);
     List<SystemHistory> findByTimestampBetweenOrderByTimestampAsc(Instant start, Instant end);
+    List<SystemHistory> findByOrderByTimestampDesc(Pageable pageable);
     
     @Modifying
     @Query("DELETE FROM SystemHistory s WHERE s.timestamp < :before")
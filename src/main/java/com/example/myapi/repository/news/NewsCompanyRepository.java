@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +13,8 @@ public interface NewsCompanyRepository extends JpaRepository<NewsCompany, Long>
     
     @Query(value = "SELECT * FROM bs4news_news_company WHERE News_Company_Code = :code LIMIT 1", nativeQuery = true)
     Optional<NewsCompany> findByNewsCompanyCode(@Param("code") String code);
+
+    // 회사 코드 사전 일괄 로드 (코드, 이름)
+    @Query("SELECT c.newsCompanyCode, c.newsCompanyName FROM NewsCompany c")
+    List<Object[]> findAllCodeAndName();
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -21,4 +22,9 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     
     @Query(value = "SELECT * FROM bs4news_news WHERE News_company = :company ORDER BY News_CreateDT DESC LIMIT 100", nativeQuery = true)
     List<News> findTop100ByNewsCompanyOrderByNewsCreateDTDesc(@Param("company") String company);
+
+    // 증분 동기화: (News_CreateDT, id) 워터마크 이후 기사만 오래된 순으로
+    @Query(value = "SELECT * FROM bs4news_news WHERE News_CreateDT > :createdAt OR (News_CreateDT = :createdAt AND id > :id) "
+            + "ORDER BY News_CreateDT ASC, id ASC LIMIT :limit", nativeQuery = true)
+    List<News> findNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") long id, @Param("limit") int limit);
 }
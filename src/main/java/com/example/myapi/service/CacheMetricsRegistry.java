@@ -0,0 +1,207 @@
+package com.example.myapi.service;
+
+import com.example.myapi.util.LatencyHistogram;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 서비스별 캐시 공통 지표
+ * - 각 서비스는 기존 캐시 구조를 그대로 두고 이름으로 등록한 CacheMetrics에 조회 결과, 로드 시간, 제거만 기록
+ * - 서비스별 캐시 상태 조회도 별도 카운터 없이 같은 CacheMetrics 값을 읽음
+ * - 항목 수와 항목별 갱신 시각은 조회 시점에 등록한 supplier로 읽어 나이(staleness) 분포 계산
+ * - /api/system/caches 조회와 SSE "cache" 이벤트가 같은 스냅샷 사용
+ */
+@Component
+public class CacheMetricsRegistry {
+
+    private static final long[] AGE_BUCKET_BOUNDS_SECONDS = {60, 300, 900, 3600};
+    private static final String[] AGE_BUCKET_LABELS = {"<1m", "1-5m", "5-15m", "15-60m", ">=1h"};
+
+    /**
+     * 캐시 하나의 기록 창구
+     */
+    public static final class CacheMetrics {
+        private final String name;
+        private final IntSupplier size;
+        private final Supplier<? extends Collection<Instant>> entryTimes;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder staleHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder loadFailures = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LatencyHistogram loadLatency = new LatencyHistogram();
+
+        private CacheMetrics(String name, IntSupplier size, Supplier<? extends Collection<Instant>> entryTimes) {
+            this.name = name;
+            this.size = size;
+            this.entryTimes = entryTimes;
+        }
+
+        public void hit() {
+            hits.increment();
+        }
+
+        /**
+         * 만료된 값을 그대로 반환한 경우 (백그라운드 갱신 등), 적중으로도 집계
+         */
+        public void staleHit() {
+            hits.increment();
+            staleHits.increment();
+        }
+
+        public void miss() {
+            misses.increment();
+        }
+
+        /**
+         * 원본 조회(로드) 시간 기록
+         */
+        public void recordLoad(long nanos, boolean success) {
+            loadLatency.record(nanos / 1000);
+            if (!success) {
+                loadFailures.increment();
+            }
+        }
+
+        /**
+         * 용량/유휴 기준으로 항목을 제거한 경우
+         */
+        public void eviction() {
+            evictions.increment();
+        }
+
+        public long hits() {
+            return hits.sum();
+        }
+
+        public long staleHits() {
+            return staleHits.sum();
+        }
+
+        public long misses() {
+            return misses.sum();
+        }
+
+        public double hitRatio() {
+            long h = hits.sum();
+            long m = misses.sum();
+            return h + m == 0 ? 0.0 : (double) h / (h + m);
+        }
+
+        public long loads() {
+            return loadLatency.count();
+        }
+
+        public long loadFailures() {
+            return loadFailures.sum();
+        }
+
+        public long evictions() {
+            return evictions.sum();
+        }
+
+        public double meanLoadMillis() {
+            long loads = loadLatency.count();
+            return loads == 0 ? 0.0 : loadLatency.totalMicros() / 1000.0 / loads;
+        }
+    }
+
+    private final Map<String, CacheMetrics> caches = new ConcurrentSkipListMap<>();
+
+    /**
+     * 항목마다 갱신 시각이 있는 캐시 등록
+     * @param entryTimes 현재 항목들의 마지막 로드 시각 (항목 수로도 사용)
+     */
+    public CacheMetrics register(String name, Supplier<? extends Collection<Instant>> entryTimes) {
+        return register(name, () -> entryTimes.get().size(), entryTimes);
+    }
+
+    /**
+     * 항목 수와 갱신 시각을 따로 제공하는 캐시 등록 (예: 한 번에 통째로 갱신되는 목록)
+     */
+    public CacheMetrics register(String name, IntSupplier size, Supplier<? extends Collection<Instant>> entryTimes) {
+        return caches.computeIfAbsent(name, n -> new CacheMetrics(n, size, entryTimes));
+    }
+
+    public List<Map<String, Object>> getSnapshot() {
+        Instant now = Instant.now();
+        List<Map<String, Object>> snapshot = new ArrayList<>(caches.size());
+        for (CacheMetrics cache : caches.values()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", cache.name);
+            entry.put("entries", safeSize(cache));
+            entry.put("hits", cache.hits());
+            entry.put("staleHits", cache.staleHits());
+            entry.put("misses", cache.misses());
+            entry.put("hitRatio", cache.hitRatio());
+            entry.put("evictions", cache.evictions());
+            entry.put("loads", cache.loads());
+            entry.put("loadFailures", cache.loadFailures());
+
+            Map<String, Object> loadMs = new LinkedHashMap<>();
+            loadMs.put("mean", cache.meanLoadMillis());
+            loadMs.put("p50", cache.loadLatency.percentile(50) / 1000.0);
+            loadMs.put("p99", cache.loadLatency.percentile(99) / 1000.0);
+            loadMs.put("max", cache.loadLatency.maxMicros() / 1000.0);
+            entry.put("loadMs", loadMs);
+            entry.put("age", ages(cache, now));
+            snapshot.add(entry);
+        }
+        return snapshot;
+    }
+
+    private int safeSize(CacheMetrics cache) {
+        try {
+            return cache.size.getAsInt();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 항목 나이 분포 (초)
+     */
+    private Map<String, Object> ages(CacheMetrics cache, Instant now) {
+        long[] seconds;
+        try {
+            seconds = cache.entryTimes.get().stream()
+                    .filter(time -> time != null)
+                    .mapToLong(time -> Math.max(0, Duration.between(time, now).toSeconds()))
+                    .sorted()
+                    .toArray();
+        } catch (RuntimeException e) {
+            seconds = new long[0];
+        }
+
+        int[] buckets = new int[AGE_BUCKET_LABELS.length];
+        for (long s : seconds) {
+            int i = 0;
+            while (i < AGE_BUCKET_BOUNDS_SECONDS.length && s >= AGE_BUCKET_BOUNDS_SECONDS[i]) {
+                i++;
+            }
+            buckets[i]++;
+        }
+        Map<String, Integer> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < AGE_BUCKET_LABELS.length; i++) {
+            histogram.put(AGE_BUCKET_LABELS[i], buckets[i]);
+        }
+
+        Map<String, Object> age = new LinkedHashMap<>();
+        age.put("newestSeconds", seconds.length == 0 ? null : seconds[0]);
+        age.put("medianSeconds", seconds.length == 0 ? null : seconds[seconds.length / 2]);
+        age.put("oldestSeconds", seconds.length == 0 ? null : seconds[seconds.length - 1]);
+        age.put("histogram", histogram);
+        return age;
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.myapi.service;
+
+import com.example.myapi.config.OpenWeatherProperties;
+import com.example.myapi.dto.weather.City;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 도시 카탈로그
+ * - openweather.city-catalog CSV(기본: classpath:cities.csv)에서 시작 시 한 번 로드
+ * - 좌표 → 가장 가까운 도시 조회용 k-d 트리 인덱스 (단위 구면 좌표 기준이라 대원 거리 순서와 동일)
+ * - 파일 시스템의 CSV가 바뀌면 인덱스를 새로 만들어 한 번에 교체 (조회는 잠금 없음)
+ * - CSV를 읽을 수 없으면 City.getMajorCities()로 대체
+ */
+@Service
+public class CityCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(CityCatalog.class);
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final ResourceLoader resourceLoader;
+    private final OpenWeatherProperties properties;
+    private final AtomicReference<Index> index = new AtomicReference<>(Index.of(
+            Arrays.asList(City.getMajorCities()), Arrays.asList(City.getMajorCities())));
+    private volatile long loadedLastModified = -1;
+
+    public CityCatalog(ResourceLoader resourceLoader, OpenWeatherProperties properties) {
+        this.resourceLoader = resourceLoader;
+        this.properties = properties;
+    }
+
+    /**
+     * 가장 가까운 도시와 그 거리
+     */
+    public record NearestCity(City city, double distanceKm) {
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 파일 시스템의 카탈로그가 바뀌었으면 다시 로드 (classpath 내 파일은 변경되지 않으므로 건너뜀)
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void reloadIfChanged() {
+        Resource resource = resourceLoader.getResource(properties.getCityCatalog());
+        try {
+            if (resource.isFile() && resource.lastModified() != loadedLastModified) {
+                reload();
+            }
+        } catch (IOException e) {
+            log.debug("Failed to check city catalog {}: {}", properties.getCityCatalog(), e.getMessage());
+        }
+    }
+
+    /**
+     * 카탈로그 로드 후 인덱스 교체 (실패 시 기존 인덱스 유지)
+     */
+    public synchronized void reload() {
+        Resource resource = resourceLoader.getResource(properties.getCityCatalog());
+        List<City> cities = new ArrayList<>();
+        List<City> weatherCities = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            long lastModified = resource.isFile() ? resource.lastModified() : 0;
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("name,")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length < 5) {
+                    log.warn("Skipping malformed city catalog line {}: {}", lineNumber, line);
+                    continue;
+                }
+                try {
+                    City city = new City(fields[0].strip(), fields[1].strip(), fields[2].strip(),
+                            Double.parseDouble(fields[3].strip()), Double.parseDouble(fields[4].strip()));
+                    cities.add(city);
+                    if (fields.length > 5 && Boolean.parseBoolean(fields[5].strip())) {
+                        weatherCities.add(city);
+                    }
+                } catch (NumberFormatException e) {
+                    log.warn("Skipping city catalog line {} with invalid coordinates: {}", lineNumber, line);
+                }
+            }
+            loadedLastModified = lastModified;
+        } catch (IOException e) {
+            log.error("Failed to load city catalog {}: {}", properties.getCityCatalog(), e.getMessage());
+            return;
+        }
+
+        if (cities.isEmpty()) {
+            log.warn("City catalog {} is empty; keeping previous catalog", properties.getCityCatalog());
+            return;
+        }
+        if (weatherCities.isEmpty()) {
+            weatherCities = Arrays.asList(City.getMajorCities());
+        }
+        index.set(Index.of(cities, weatherCities));
+        log.info("City catalog loaded: {} cities ({} with weather refresh)", cities.size(), weatherCities.size());
+    }
+
+    /**
+     * 전체 도시
+     */
+    public List<City> cities() {
+        return index.get().cities();
+    }
+
+    /**
+     * 날씨를 주기적으로 갱신하는 도시 (카탈로그 순서)
+     */
+    public List<City> weatherCities() {
+        return index.get().weatherCities();
+    }
+
+    /**
+     * 이름(영문, 대소문자 무시) 또는 한글 이름으로 조회
+     */
+    public Optional<City> findByName(String name) {
+        if (name == null) return Optional.empty();
+        return Optional.ofNullable(index.get().byName().get(name.strip().toLowerCase()));
+    }
+
+    /**
+     * 좌표에서 가장 가까운 도시
+     */
+    public Optional<NearestCity> nearest(double lat, double lon) {
+        return index.get().allTree().nearest(lat, lon);
+    }
+
+    /**
+     * 좌표에서 가장 가까운 날씨 갱신 도시
+     */
+    public Optional<NearestCity> nearestWeatherCity(double lat, double lon) {
+        return index.get().weatherTree().nearest(lat, lon);
+    }
+
+    /**
+     * 한 번 만들어진 뒤 변경되지 않는 카탈로그 스냅샷
+     */
+    private record Index(List<City> cities, List<City> weatherCities, Map<String, City> byName,
+                         KdTree allTree, KdTree weatherTree) {
+
+        static Index of(List<City> cities, List<City> weatherCities) {
+            Map<String, City> byName = new HashMap<>();
+            for (City city : cities) {
+                byName.putIfAbsent(city.name().toLowerCase(), city);
+                byName.putIfAbsent(city.nameKo(), city);
+            }
+            return new Index(List.copyOf(cities), List.copyOf(weatherCities), Map.copyOf(byName),
+                    KdTree.build(cities), KdTree.build(weatherCities));
+        }
+    }
+
+    /**
+     * 단위 구면 위 3차원 좌표에 대한 k-d 트리
+     * 두 점의 현(chord) 거리는 대원 거리에 대해 단조 증가하므로 유클리드 최근접 = 지표면 최근접
+     */
+    private static final class KdTree {
+
+        private final City[] cities;
+        private final double[][] points;
+
+        private KdTree(City[] cities, double[][] points) {
+            this.cities = cities;
+            this.points = points;
+        }
+
+        static KdTree build(List<City> source) {
+            City[] cities = source.toArray(City[]::new);
+            double[][] points = new double[cities.length][];
+            for (int i = 0; i < cities.length; i++) {
+                points[i] = toUnitVector(cities[i].lat(), cities[i].lon());
+            }
+            Integer[] order = new Integer[cities.length];
+            for (int i = 0; i < order.length; i++) order[i] = i;
+            arrange(order, points, 0, order.length, 0);
+
+            City[] sortedCities = new City[cities.length];
+            double[][] sortedPoints = new double[cities.length][];
+            for (int i = 0; i < order.length; i++) {
+                sortedCities[i] = cities[order[i]];
+                sortedPoints[i] = points[order[i]];
+            }
+            return new KdTree(sortedCities, sortedPoints);
+        }
+
+        /**
+         * [from, to) 구간을 축 기준으로 정렬해 중앙값을 노드로 두는 암시적 트리 구성
+         */
+        private static void arrange(Integer[] order, double[][] points, int from, int to, int axis) {
+            if (to - from <= 1) return;
+            Arrays.sort(order, from, to, Comparator.comparingDouble(i -> points[i][axis]));
+            int mid = (from + to) >>> 1;
+            arrange(order, points, from, mid, (axis + 1) % 3);
+            arrange(order, points, mid + 1, to, (axis + 1) % 3);
+        }
+
+        Optional<NearestCity> nearest(double lat, double lon) {
+            if (cities.length == 0) return Optional.empty();
+            double[] target = toUnitVector(lat, lon);
+            int[] best = {-1};
+            double[] bestDistance = {Double.MAX_VALUE};
+            search(target, 0, cities.length, 0, best, bestDistance);
+
+            // 현 거리 → 대원 거리(km)
+            double chord = Math.sqrt(bestDistance[0]);
+            double distanceKm = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, chord / 2));
+            return Optional.of(new NearestCity(cities[best[0]], distanceKm));
+        }
+
+        private void search(double[] target, int from, int to, int axis, int[] best, double[] bestDistance) {
+            if (from >= to) return;
+            int mid = (from + to) >>> 1;
+            double[] point = points[mid];
+            double dx = point[0] - target[0];
+            double dy = point[1] - target[1];
+            double dz = point[2] - target[2];
+            double distance = dx * dx + dy * dy + dz * dz;
+            if (distance < bestDistance[0]) {
+                bestDistance[0] = distance;
+                best[0] = mid;
+            }
+
+            double diff = target[axis] - point[axis];
+            int nextAxis = (axis + 1) % 3;
+            if (diff < 0) {
+                search(target, from, mid, nextAxis, best, bestDistance);
+                if (diff * diff < bestDistance[0]) search(target, mid + 1, to, nextAxis, best, bestDistance);
+            } else {
+                search(target, mid + 1, to, nextAxis, best, bestDistance);
+                if (diff * diff < bestDistance[0]) search(target, from, mid, nextAxis, best, bestDistance);
+            }
+        }
+
+        private static double[] toUnitVector(double lat, double lon) {
+            double latRad = Math.toRadians(lat);
+            double lonRad = Math.toRadians(lon);
+            return new double[]{
+                    Math.cos(latRad) * Math.cos(lonRad),
+                    Math.cos(latRad) * Math.sin(lonRad),
+                    Math.sin(latRad)
+            };
+        }
+    }
+}
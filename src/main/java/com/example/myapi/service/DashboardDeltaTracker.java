@@ -0,0 +1,159 @@
+package com.example.myapi.service;
+
+import com.example.myapi.dto.dashboard.DashboardData.NewsData;
+import com.example.myapi.dto.dashboard.DashboardData.StockQuote;
+import com.example.myapi.dto.dashboard.DashboardData.StocksData;
+import com.example.myapi.dto.dashboard.DashboardData.SystemData;
+import com.example.myapi.dto.dashboard.DashboardData.WeatherData;
+import com.example.myapi.dto.dashboard.DashboardDelta;
+import com.example.myapi.sse.SseConnection;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대시보드 변경분(delta) 추적기
+ * - 연결별로 마지막으로 보낸 스냅샷(version)을 SseConnection에 보관
+ * - 새 스냅샷과 비교해 바뀐 섹션과 바뀐 종목 필드만 담은 DashboardDelta 생성
+ */
+@Component
+public class DashboardDeltaTracker {
+
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * 연결에 전송된 대시보드 스냅샷
+     * 같은 틱에 같은 티커 구성으로 만든 스냅샷은 여러 연결이 같은 인스턴스를 공유
+     */
+    public record Snapshot(long version, StocksData stocks, List<WeatherData> weather, boolean weatherWarming,
+                           NewsData news) {
+    }
+
+    /**
+     * 한 브로드캐스트 틱 안에서 직렬화한 delta 재사용 (틱마다 새로 생성, 단일 스레드 전용)
+     * 같은 기준 스냅샷을 받은 연결이라도 그 사이 티커 구성이 바뀌었으면 대상 스냅샷이 다르므로
+     * (기준, 대상) 쌍으로 구분
+     */
+    public static final class DeltaCache {
+        private final Map<Snapshot, Map<Snapshot, byte[]>> byBase = new IdentityHashMap<>();
+
+        public byte[] get(Snapshot base, Snapshot target) {
+            Map<Snapshot, byte[]> byTarget = byBase.get(base);
+            return byTarget != null ? byTarget.get(target) : null;
+        }
+
+        public void put(Snapshot base, Snapshot target, byte[] delta) {
+            byBase.computeIfAbsent(base, b -> new IdentityHashMap<>()).put(target, delta);
+        }
+    }
+
+    public long nextVersion() {
+        return versionSequence.incrementAndGet();
+    }
+
+    /**
+     * 연결에 마지막으로 보낸 스냅샷 (없으면 전체 스냅샷을 보내야 함)
+     */
+    public Snapshot lastSent(SseConnection connection) {
+        return connection.attachment() instanceof Snapshot snapshot ? snapshot : null;
+    }
+
+    public void recordSent(SseConnection connection, Snapshot snapshot) {
+        connection.attach(snapshot);
+    }
+
+    /**
+     * 재동기화 필요 표시 (다음 브로드캐스트에서 전체 스냅샷 전송)
+     */
+    public void reset(SseConnection connection) {
+        connection.attach(null);
+    }
+
+    /**
+     * base → current 변경분 생성 (시스템 섹션은 항상 포함)
+     */
+    public DashboardDelta diff(Snapshot base, Snapshot current, SystemData system) {
+        StocksData stocks = null;
+        List<Map<String, Object>> quotes = null;
+        if (sameTickers(base.stocks(), current.stocks())) {
+            quotes = diffQuotes(base.stocks().quotes(), current.stocks().quotes());
+        } else {
+            stocks = current.stocks();
+        }
+
+        List<WeatherData> weather = Objects.equals(base.weather(), current.weather()) ? null : current.weather();
+        Boolean weatherWarming = base.weatherWarming() == current.weatherWarming() ? null : current.weatherWarming();
+        NewsData news = sameNews(base.news(), current.news()) ? null : current.news();
+
+        return new DashboardDelta(
+                "delta",
+                current.version(),
+                base.version(),
+                Instant.now(),
+                stocks,
+                quotes,
+                current.stocks().fetchedAt(),
+                weather,
+                weatherWarming,
+                news,
+                system
+        );
+    }
+
+    private boolean sameTickers(StocksData base, StocksData current) {
+        List<StockQuote> a = base.quotes();
+        List<StockQuote> b = current.quotes();
+        if (a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            if (!a.get(i).symbol().equals(b.get(i).symbol()) || !Objects.equals(a.get(i).name(), b.get(i).name())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 같은 티커 구성에서 값이 바뀐 종목의 바뀐 필드만 추출
+     */
+    private List<Map<String, Object>> diffQuotes(List<StockQuote> base, List<StockQuote> current) {
+        List<Map<String, Object>> changes = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            StockQuote before = base.get(i);
+            StockQuote after = current.get(i);
+            if (before.equals(after)) continue;
+
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("symbol", after.symbol());
+            putIfChanged(change, "currentPrice", before.currentPrice(), after.currentPrice());
+            putIfChanged(change, "change", before.change(), after.change());
+            putIfChanged(change, "percentChange", before.percentChange(), after.percentChange());
+            putIfChanged(change, "highPrice", before.highPrice(), after.highPrice());
+            putIfChanged(change, "lowPrice", before.lowPrice(), after.lowPrice());
+            putIfChanged(change, "openPrice", before.openPrice(), after.openPrice());
+            putIfChanged(change, "previousClose", before.previousClose(), after.previousClose());
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private void putIfChanged(Map<String, Object> change, String field, Double before, Double after) {
+        if (!Objects.equals(before, after)) {
+            change.put(field, after);
+        }
+    }
+
+    /**
+     * 뉴스는 fetchedAt이 매번 바뀌므로 기사 목록만 비교
+     */
+    private boolean sameNews(NewsData base, NewsData current) {
+        return Objects.equals(base.yahooNews(), current.yahooNews())
+                && Objects.equals(base.yonhapNews(), current.yonhapNews());
+    }
+}
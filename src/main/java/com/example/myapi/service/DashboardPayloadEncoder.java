@@ -0,0 +1,108 @@
+package com.example.myapi.service;
+
+import com.example.myapi.dto.dashboard.DashboardData.NewsData;
+import com.example.myapi.dto.dashboard.DashboardData.StocksData;
+import com.example.myapi.dto.dashboard.DashboardData.SystemData;
+import com.example.myapi.dto.dashboard.DashboardData.WeatherData;
+import com.example.myapi.dto.dashboard.DashboardDelta;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 대시보드 SSE 페이로드 인코더
+ * 모든 사용자에게 동일한 섹션(날씨, 뉴스, 시스템)은 브로드캐스트 틱마다 한 번만 직렬화하고,
+ * 사용자별로 다른 주식 섹션만 붙여서 DashboardData("full") JSON을 조립
+ * (delta 동기화를 위해 version 필드 추가)
+ */
+@Component
+public class DashboardPayloadEncoder {
+
+    private static final byte[] FULL_PREFIX = ascii("{\"type\":\"full\",\"version\":");
+    private static final byte[] TIMESTAMP_FIELD = ascii(",\"timestamp\":");
+    private static final byte[] STOCKS_FIELD = ascii(",\"stocks\":");
+    private static final byte[] WEATHER_FIELD = ascii(",\"weather\":");
+    private static final byte[] WEATHER_WARMING_FIELD = ascii(",\"weatherWarming\":");
+    private static final byte[] NEWS_FIELD = ascii(",\"news\":");
+    private static final byte[] SYSTEM_FIELD = ascii(",\"system\":");
+    private static final byte[] OBJECT_END = ascii("}");
+
+    private final ObjectMapper objectMapper;
+
+    public DashboardPayloadEncoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 틱당 한 번 직렬화된 공통 섹션 (UTF-8 JSON 조각)
+     */
+    public record SharedSections(byte[] timestamp, byte[] weather, byte[] weatherWarming, byte[] news, byte[] system) {
+        int length() {
+            return timestamp.length + weather.length + weatherWarming.length + news.length + system.length;
+        }
+    }
+
+    /**
+     * 공통 섹션 직렬화
+     */
+    public SharedSections encodeShared(List<WeatherData> weather, boolean weatherWarming, NewsData news,
+                                       SystemData system) throws JsonProcessingException {
+        return new SharedSections(
+                objectMapper.writeValueAsBytes(Instant.now()),
+                objectMapper.writeValueAsBytes(weather),
+                objectMapper.writeValueAsBytes(weatherWarming),
+                objectMapper.writeValueAsBytes(news),
+                objectMapper.writeValueAsBytes(system)
+        );
+    }
+
+    /**
+     * 주식 섹션 직렬화 (동일 티커 구성당 한 번)
+     */
+    public byte[] encodeStocks(StocksData stocks) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(stocks);
+    }
+
+    /**
+     * 변경분 직렬화 (같은 기준 스냅샷 + 같은 티커 구성당 한 번)
+     */
+    public byte[] encodeDelta(DashboardDelta delta) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(delta);
+    }
+
+    /**
+     * 공통 섹션 + 주식 섹션으로 전체 대시보드 JSON 조립
+     */
+    public byte[] assembleFull(SharedSections shared, byte[] stocks, long version) {
+        byte[] versionBytes = ascii(Long.toString(version));
+        int size = FULL_PREFIX.length + versionBytes.length + TIMESTAMP_FIELD.length + STOCKS_FIELD.length
+                + WEATHER_FIELD.length + WEATHER_WARMING_FIELD.length + NEWS_FIELD.length + SYSTEM_FIELD.length + OBJECT_END.length
+                + shared.length() + stocks.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.writeBytes(FULL_PREFIX);
+        out.writeBytes(versionBytes);
+        out.writeBytes(TIMESTAMP_FIELD);
+        out.writeBytes(shared.timestamp());
+        out.writeBytes(STOCKS_FIELD);
+        out.writeBytes(stocks);
+        out.writeBytes(WEATHER_FIELD);
+        out.writeBytes(shared.weather());
+        out.writeBytes(WEATHER_WARMING_FIELD);
+        out.writeBytes(shared.weatherWarming());
+        out.writeBytes(NEWS_FIELD);
+        out.writeBytes(shared.news());
+        out.writeBytes(SYSTEM_FIELD);
+        out.writeBytes(shared.system());
+        out.writeBytes(OBJECT_END);
+        return out.toByteArray();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
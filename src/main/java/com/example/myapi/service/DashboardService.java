@@ -5,6 +5,7 @@ import com.example.myapi.dto.dashboard.DashboardConfig.TickerConfig;
 import com.example.myapi.dto.dashboard.DashboardData;
 import com.example.myapi.dto.dashboard.DashboardData.*;
 import com.example.myapi.dto.finnhub.FinnhubQuoteResponse;
+import com.example.myapi.dto.rss.NewsTimelineItem;
 import com.example.myapi.dto.rss.RssFeedResponse;
 import com.example.myapi.dto.settings.UserSettingsDto;
 import com.example.myapi.dto.system.SystemStatusResponse;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -25,23 +27,30 @@ import java.util.stream.Collectors;
 public class DashboardService {
 
     private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+    private static final int DASHBOARD_NEWS_LIMIT = 100;
 
     private final FinnhubService finnhubService;
     private final WeatherService weatherService;
     private final RssService rssService;
+    private final NewsTimelineIndex timelineIndex;
     private final SystemStatusService systemStatusService;
+    private final SystemMetricsRing metricsRing;
     private final UserSettingsService userSettingsService;
 
     public DashboardService(
             FinnhubService finnhubService,
             WeatherService weatherService,
             RssService rssService,
+            NewsTimelineIndex timelineIndex,
             SystemStatusService systemStatusService,
+            SystemMetricsRing metricsRing,
             UserSettingsService userSettingsService) {
         this.finnhubService = finnhubService;
         this.weatherService = weatherService;
         this.rssService = rssService;
+        this.timelineIndex = timelineIndex;
         this.systemStatusService = systemStatusService;
+        this.metricsRing = metricsRing;
         this.userSettingsService = userSettingsService;
     }
 
@@ -150,23 +159,30 @@ public class DashboardService {
      */
     public StocksData getStocksData(String userId) {
         DashboardConfig config = getConfig(userId);
-        List<StockQuote> quotes = new ArrayList<>();
 
         log.debug("Getting stocks data for user {} with {} tickers: {}", 
                 userId, config.tickers().size(), 
                 config.tickers().stream().map(TickerConfig::symbol).collect(java.util.stream.Collectors.joining(", ")));
 
-        for (TickerConfig ticker : config.tickers()) {
-            try {
-                FinnhubQuoteResponse response = finnhubService.getQuote(ticker.symbol());
-                quotes.add(StockQuote.from(ticker.symbol(), ticker.name(), response));
-            } catch (Exception e) {
-                log.warn("Failed to get quote for {}: {}", ticker.symbol(), e.getMessage());
-                quotes.add(StockQuote.from(ticker.symbol(), ticker.name(), null));
-            }
+        StocksData stocks = getStocksData(config.tickers());
+        log.debug("Retrieved {} stock quotes for user {}", stocks.quotes().size(), userId);
+        return stocks;
+    }
+
+    /**
+     * 티커 목록 기준 주식 데이터 조회
+     * 브로드캐스트 시 같은 티커 구성을 가진 사용자끼리 결과를 공유하기 위해 사용
+     * 캐시에 없는 티커는 병렬로 조회 (조회 실패 티커는 값 없이 포함)
+     */
+    public StocksData getStocksData(List<TickerConfig> tickers) {
+        Map<String, FinnhubQuoteResponse> responses = finnhubService.getQuotes(
+                tickers.stream().map(TickerConfig::symbol).toList());
+
+        List<StockQuote> quotes = new ArrayList<>();
+        for (TickerConfig ticker : tickers) {
+            quotes.add(StockQuote.from(ticker.symbol(), ticker.name(), responses.get(ticker.symbol())));
         }
 
-        log.debug("Retrieved {} stock quotes for user {}", quotes.size(), userId);
         return new StocksData(quotes, Instant.now());
     }
 
@@ -179,18 +195,25 @@ public class DashboardService {
                 .toList();
     }
 
+    /**
+     * 첫 날씨 갱신이 아직 끝나지 않았는지 여부
+     */
+    public boolean isWeatherWarming() {
+        return weatherService.isWarming();
+    }
+
     // ==================== 뉴스 데이터 ====================
 
+    /**
+     * 피드 캐시를 갱신한 뒤 타임라인 인덱스의 출처별 뷰 사용
+     * (피드 간 중복 제거, 게시 시각 역순 정렬된 상태라 다시 정렬하지 않음)
+     * 타임라인에 아직 항목이 없으면 피드 항목을 그대로 사용
+     */
     public NewsData getNewsData() {
         // Yahoo Finance 종합 경제 뉴스 (대시보드용)
         List<NewsItem> yahooNews = new ArrayList<>();
         try {
-            RssFeedResponse yahooFeed = rssService.getYahooMarket();
-            if (yahooFeed != null && yahooFeed.items() != null) {
-                yahooNews = yahooFeed.items().stream()
-                        .map(NewsItem::from)
-                        .toList();
-            }
+            yahooNews = timelineNews("yahoo", rssService.getYahooMarket());
         } catch (Exception e) {
             log.warn("Failed to get Yahoo market news: {}", e.getMessage());
         }
@@ -198,12 +221,7 @@ public class DashboardService {
         // 연합뉴스
         List<NewsItem> yonhapNews = new ArrayList<>();
         try {
-            RssFeedResponse yonhapFeed = rssService.getYonhapAll();
-            if (yonhapFeed != null && yonhapFeed.items() != null) {
-                yonhapNews = yonhapFeed.items().stream()
-                        .map(NewsItem::from)
-                        .toList();
-            }
+            yonhapNews = timelineNews("yonhap", rssService.getYonhapAll());
         } catch (Exception e) {
             log.warn("Failed to get Yonhap news: {}", e.getMessage());
         }
@@ -211,9 +229,43 @@ public class DashboardService {
         return new NewsData(yahooNews, yonhapNews, Instant.now());
     }
 
+    private List<NewsItem> timelineNews(String source, RssFeedResponse feed) {
+        List<NewsTimelineItem> timeline = timelineIndex.page(source, null, DASHBOARD_NEWS_LIMIT).items();
+        if (!timeline.isEmpty()) {
+            return timeline.stream()
+                    .map(NewsItem::from)
+                    .toList();
+        }
+        if (feed != null && feed.items() != null) {
+            return feed.items().stream()
+                    .map(NewsItem::from)
+                    .toList();
+        }
+        return new ArrayList<>();
+    }
+
     // ==================== 시스템 데이터 ====================
 
+    /**
+     * 링 버퍼의 최신 샘플 사용 (브로드캐스트마다 MXBean 전체 조회를 하지 않음)
+     */
     public SystemData getSystemData() {
+        SystemMetricsRing.Sample sample = metricsRing.latest();
+        if (sample != null) {
+            return new SystemData(
+                    sample.cpuUsage(),
+                    sample.memoryUsagePercent(),
+                    sample.memoryUsed(),
+                    sample.memoryTotal(),
+                    sample.heapUsagePercent(),
+                    sample.heapUsed(),
+                    sample.heapMax(),
+                    sample.threadCount(),
+                    sample.gcCount(),
+                    sample.gcTime(),
+                    sample.uptimeMillis()
+            );
+        }
         SystemStatusResponse status = systemStatusService.getSystemStatus();
         return new SystemData(
                 status.systemCpuLoad(),
@@ -236,9 +288,12 @@ public class DashboardService {
      * 사용자별 전체 데이터 조회
      */
     public DashboardData getFullData(String userId) {
+        // warming 여부를 먼저 읽어야 첫 갱신 완료 직후에도 weather와 어긋나지 않음
+        boolean weatherWarming = isWeatherWarming();
         return DashboardData.full(
                 getStocksData(userId),
                 getWeatherData(),
+                weatherWarming,
                 getNewsData(),
                 getSystemData()
         );
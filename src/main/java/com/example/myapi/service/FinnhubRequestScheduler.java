@@ -0,0 +1,256 @@
+package com.example.myapi.service;
+
+import com.example.myapi.config.FinnhubProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Finnhub 호출 스케줄러 (모든 Finnhub API 호출이 공유)
+ * - 토큰 버킷으로 초당 호출 수 제한 (rate-limit-per-second, 버스트도 같은 크기)
+ * - 우선순위 레인: 사용자 요청 캐시 미스 → 백그라운드 갱신 → 부가 정보(프로필, 재무 등)
+ * - 토큰이 없으면 스레드를 재우지 않고 다음 토큰 시각에 디스패치를 예약
+ * - MAX_LANE_WAIT 이상 기다린 호출은 레인과 관계없이 먼저 실행 (상위 레인이 계속 차 있어도 굶지 않음)
+ * - call()은 call-timeout-ms까지만 기다리고, 그때까지 실행되지 않은 호출은 취소
+ */
+@Component
+public class FinnhubRequestScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(FinnhubRequestScheduler.class);
+
+    /**
+     * 호출 우선순위 (선언 순서가 높은 우선순위)
+     */
+    public enum Priority {
+        INTERACTIVE,
+        REFRESH,
+        METADATA
+    }
+
+    /**
+     * 다음 디스패치 예약 (테스트에서는 실행 시점을 직접 제어)
+     */
+    interface WakeupTimer {
+        void schedule(Runnable wakeup, long delayNanos);
+    }
+
+    private record Task(Runnable body, CompletableFuture<?> future, long enqueuedAtNanos) {
+    }
+
+    private static final long MAX_LANE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final double ratePerSecond;
+    private final double capacity;
+    private final long callTimeoutMs;
+    private final LongSupplier nanoTime;
+    private final Map<Priority, Queue<Task>> lanes = new EnumMap<>(Priority.class);
+    private final Executor workers;
+    private final WakeupTimer timer;
+
+    // 스프링 빈으로 생성한 경우에만 설정 (종료 시 정리)
+    private ExecutorService workerPool;
+    private ScheduledExecutorService timerPool;
+
+    // 아래 상태는 this로 동기화
+    private double tokens;
+    private long lastRefillNanos;
+    private boolean wakeupScheduled = false;
+
+    public FinnhubRequestScheduler(FinnhubProperties properties) {
+        this(properties, newWorkerPool(properties.getFetchThreads()), newTimerPool());
+    }
+
+    private FinnhubRequestScheduler(FinnhubProperties properties,
+                                    ExecutorService workerPool, ScheduledExecutorService timerPool) {
+        this(properties.getRateLimitPerSecond(), properties.getCallTimeoutMs(), System::nanoTime, workerPool,
+                (wakeup, delayNanos) -> timerPool.schedule(wakeup, delayNanos, TimeUnit.NANOSECONDS));
+        this.workerPool = workerPool;
+        this.timerPool = timerPool;
+    }
+
+    FinnhubRequestScheduler(double ratePerSecond, long callTimeoutMs, LongSupplier nanoTime,
+                            Executor workers, WakeupTimer timer) {
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = ratePerSecond;
+        this.callTimeoutMs = callTimeoutMs;
+        this.nanoTime = nanoTime;
+        this.workers = workers;
+        this.timer = timer;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoTime.getAsLong();
+        for (Priority priority : Priority.values()) {
+            lanes.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    private static ExecutorService newWorkerPool(int threads) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "finnhub-call-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static ScheduledExecutorService newTimerPool() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "finnhub-rate-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 호출 예약 (토큰이 생기면 우선순위 순서로 실행)
+     */
+    public <T> CompletableFuture<T> submit(Priority priority, Supplier<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable body = () -> {
+            try {
+                future.complete(call.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+        synchronized (this) {
+            lanes.get(priority).add(new Task(body, future, nanoTime.getAsLong()));
+        }
+        dispatch();
+        return future;
+    }
+
+    /**
+     * 호출 예약 후 결과 대기 (호출 중 발생한 RuntimeException은 그대로 전달)
+     * call-timeout-ms 안에 끝나지 않으면 아직 실행 전인 호출은 취소하고 IllegalStateException
+     */
+    public <T> T call(Priority priority, Supplier<T> call) {
+        CompletableFuture<T> future = submit(priority, call);
+        try {
+            return future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new IllegalStateException("Finnhub " + priority + " call timed out after " + callTimeoutMs + " ms");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Finnhub call", e);
+        }
+    }
+
+    /**
+     * 대기 중인 호출 수 (레인별)
+     */
+    public synchronized Map<Priority, Integer> pendingCounts() {
+        Map<Priority, Integer> counts = new EnumMap<>(Priority.class);
+        lanes.forEach((priority, lane) -> counts.put(priority,
+                (int) lane.stream().filter(task -> !task.future().isDone()).count()));
+        return counts;
+    }
+
+    /**
+     * 사용 가능한 토큰만큼 대기 호출을 실행하고, 남은 호출이 있으면 다음 토큰 시각에 다시 디스패치
+     */
+    private void dispatch() {
+        synchronized (this) {
+            long now = nanoTime.getAsLong();
+            refill(now);
+            Task task;
+            while (tokens >= 1 && (task = nextTask(now)) != null) {
+                tokens -= 1;
+                try {
+                    workers.execute(task.body());
+                } catch (RejectedExecutionException e) {
+                    task.future().completeExceptionally(e);
+                }
+            }
+
+            if (wakeupScheduled || !hasPending()) {
+                return;
+            }
+            long delayNanos = (long) Math.ceil((1 - tokens) / ratePerSecond * TimeUnit.SECONDS.toNanos(1));
+            try {
+                timer.schedule(this::onWakeup, Math.max(delayNanos, 1));
+                wakeupScheduled = true;
+            } catch (RejectedExecutionException e) {
+                log.debug("Finnhub rate limiter is shut down; {} calls left pending", pendingCounts());
+            }
+        }
+    }
+
+    private void onWakeup() {
+        synchronized (this) {
+            wakeupScheduled = false;
+        }
+        dispatch();
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * ratePerSecond / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+    }
+
+    /**
+     * 오래 기다린 호출 중 가장 먼저 들어온 것, 없으면 우선순위 순서 (취소된 호출은 토큰 없이 버림)
+     */
+    private Task nextTask(long now) {
+        Queue<Task> overdue = null;
+        for (Queue<Task> lane : lanes.values()) {
+            while (lane.peek() != null && lane.peek().future().isDone()) {
+                lane.poll();
+            }
+            Task head = lane.peek();
+            if (head != null && now - head.enqueuedAtNanos() >= MAX_LANE_WAIT_NANOS
+                    && (overdue == null || head.enqueuedAtNanos() < overdue.peek().enqueuedAtNanos())) {
+                overdue = lane;
+            }
+        }
+        if (overdue != null) {
+            return overdue.poll();
+        }
+        for (Queue<Task> lane : lanes.values()) {
+            Task task = lane.poll();
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasPending() {
+        return lanes.values().stream().anyMatch(lane -> !lane.isEmpty());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (timerPool != null) {
+            timerPool.shutdownNow();
+        }
+        if (workerPool != null) {
+            workerPool.shutdownNow();
+        }
+    }
+}
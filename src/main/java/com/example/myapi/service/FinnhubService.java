@@ -2,6 +2,9 @@ package com.example.myapi.service;
 
 import com.example.myapi.config.FinnhubProperties;
 import com.example.myapi.dto.finnhub.*;
+import com.example.myapi.entity.AlertRule;
+import com.example.myapi.repository.AlertRuleRepository;
+import com.example.myapi.service.FinnhubRequestScheduler.Priority;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
@@ -13,65 +16,182 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
  * Service for Finnhub API integration.
  * Base URL: https://finnhub.io/api/v1
- * Rate limit: 30 calls/second
+ * Rate limit: 30 calls/second (FinnhubRequestScheduler가 모든 호출에 적용)
  * 
  * 캐싱 전략:
- * - 티커별 Quote 데이터 캐싱 (60초 TTL)
- * - 전역 호출 쿨타임: 캐시된 티커는 즉시 반환, 60초 후 백그라운드 갱신
+ * - 티커별 Quote 데이터 캐싱 (TTL은 거래 세션별: 정규장 30초 ~ 휴장 30분, MarketSessionCalendar)
+ * - 전역 호출 쿨타임: 캐시된 티커는 즉시 반환, 백그라운드 갱신
+ * - 수요 기반 갱신: 접속 중인 대시보드나 활성 알림 규칙이 보는 티커는 TTL마다,
+ *   그 외 티커는 마지막 수요 이후 시간에 비례해 갱신 간격을 늘리다가 제거
+ * - 최대 크기 초과 시 수요 없는 티커부터 LRU 제거
+ * - 단일 비행(single-flight): 같은 티커의 동시 조회는 진행 중인 하나의 요청 결과를 공유
  */
 @Service
 public class FinnhubService {
 
     private static final Logger log = LoggerFactory.getLogger(FinnhubService.class);
-    private static final Duration CACHE_TTL = Duration.ofSeconds(60);
+    private static final String DASHBOARD_DEMAND = "dashboard";
 
     private final RestTemplate restTemplate;
+    private final RequestMetricsRegistry metrics;
+    private final CacheMetricsRegistry.CacheMetrics cacheMetrics;
     private final FinnhubProperties properties;
 
-    // Quote 캐시: symbol -> (response, fetchedAt)
+    // Quote 캐시: symbol -> (response, fetchedAt, lastDemandAt)
     private final Map<String, CachedQuote> quoteCache = new ConcurrentHashMap<>();
 
-    public FinnhubService(RestTemplate restTemplate, FinnhubProperties properties) {
+    // 수요 출처별 관심 티커 (예: "dashboard" -> 접속 중인 SSE 연결의 티커)
+    private final Map<String, Set<String>> watchedSymbols = new ConcurrentHashMap<>();
+
+
+    // 진행 중인 Quote 조회: symbol -> 모든 대기자가 공유하는 future
+    private final Map<String, CompletableFuture<FinnhubQuoteResponse>> inFlightQuotes = new ConcurrentHashMap<>();
+    private final FinnhubRequestScheduler requestScheduler;
+    private final AlertRuleRepository alertRuleRepository;
+    private final MarketSessionCalendar marketCalendar;
+
+    public FinnhubService(RestTemplate restTemplate, FinnhubProperties properties,
+                          FinnhubRequestScheduler requestScheduler,
+                          AlertRuleRepository alertRuleRepository,
+                          MarketSessionCalendar marketCalendar,
+                          RequestMetricsRegistry metrics,
+                          CacheMetricsRegistry cacheMetricsRegistry) {
         this.restTemplate = restTemplate;
         this.properties = properties;
+        this.requestScheduler = requestScheduler;
+        this.alertRuleRepository = alertRuleRepository;
+        this.marketCalendar = marketCalendar;
+        this.metrics = metrics;
+        this.cacheMetrics = cacheMetricsRegistry.register("finnhub.quotes",
+                () -> quoteCache.values().stream().map(entry -> entry.fetchedAt).toList());
     }
 
     /**
      * 캐시된 Quote 엔트리
+     * lastDemandAt: 마지막으로 조회되었거나 관심 티커로 확인된 시각
      */
-    private record CachedQuote(FinnhubQuoteResponse response, Instant fetchedAt) {
+    private static final class CachedQuote {
+        private volatile FinnhubQuoteResponse response;
+        private volatile Instant fetchedAt;
+        private volatile Instant lastDemandAt;
+
+        private CachedQuote(FinnhubQuoteResponse response, Instant now) {
+            this.response = response;
+            this.fetchedAt = now;
+            this.lastDemandAt = now;
+        }
     }
 
     /**
-     * 60초마다 캐시된 모든 티커 갱신
+     * 15초마다 갱신 시점이 된 티커만 갱신
+     * - 관심 티커(대시보드 연결, 활성 알림 규칙): 현재 거래 세션의 TTL마다
+     * - 그 외: 마지막 수요 이후 경과 시간의 절반 간격 (TTL ~ max(TTL, idle-refresh-max-seconds))
+     * - evict-after-idle-seconds 동안 수요가 없으면 제거
+     * 갱신 요청은 REFRESH 레인에 한 번에 넣고, 호출 속도는 FinnhubRequestScheduler가 제한
      */
-    @Scheduled(fixedRate = 60000)
+    @Scheduled(fixedRate = 15000)
     public void refreshCachedQuotes() {
         if (quoteCache.isEmpty()) {
             return;
         }
-        log.info("Refreshing {} cached stock quotes...", quoteCache.size());
-        
-        for (String symbol : quoteCache.keySet()) {
-            try {
-                FinnhubQuoteResponse fresh = fetchQuoteFromApi(symbol);
-                if (fresh != null) {
-                    quoteCache.put(symbol, new CachedQuote(fresh, Instant.now()));
+
+        Instant now = Instant.now();
+        Set<String> watched = currentlyWatched();
+        Duration ttl = marketCalendar.quoteRefreshInterval();
+        Duration configuredIdleMax = Duration.ofSeconds(properties.getQuoteCache().getIdleRefreshMaxSeconds());
+        Duration idleRefreshMax = configuredIdleMax.compareTo(ttl) < 0 ? ttl : configuredIdleMax;
+        Duration evictAfterIdle = Duration.ofSeconds(properties.getQuoteCache().getEvictAfterIdleSeconds());
+
+        List<String> due = new ArrayList<>();
+        quoteCache.forEach((symbol, entry) -> {
+            if (watched.contains(symbol)) {
+                entry.lastDemandAt = now;
+            }
+            Duration idle = Duration.between(entry.lastDemandAt, now);
+            if (idle.compareTo(evictAfterIdle) >= 0) {
+                if (quoteCache.remove(symbol, entry)) {
+                    cacheMetrics.eviction();
+                    log.debug("Evicted idle quote {} (idle {}s)", symbol, idle.toSeconds());
                 }
-                // API rate limit 방지를 위한 딜레이
-                Thread.sleep(100);
-            } catch (Exception e) {
-                log.error("Failed to refresh quote for {}: {}", symbol, e.getMessage());
+                return;
             }
+
+            Duration interval = idle.dividedBy(2);
+            if (interval.compareTo(ttl) < 0) interval = ttl;
+            if (interval.compareTo(idleRefreshMax) > 0) interval = idleRefreshMax;
+            if (Duration.between(entry.fetchedAt, now).compareTo(interval) >= 0) {
+                due.add(symbol);
+            }
+        });
+        if (due.isEmpty()) {
+            return;
+        }
+        log.info("Refreshing {} of {} cached stock quotes ({} watched)...", due.size(), quoteCache.size(), watched.size());
+
+        long startedAt = System.currentTimeMillis();
+        List<CompletableFuture<FinnhubQuoteResponse>> refreshes = due.stream()
+                .map(symbol -> loadQuote(symbol, Priority.REFRESH)
+                        .whenComplete((response, e) -> {
+                            if (e != null) {
+                                log.error("Failed to refresh quote for {}: {}", symbol, e.getMessage());
+                            }
+                        }))
+                .toList();
+        CompletableFuture.allOf(refreshes.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, e) -> log.info("Stock quotes refresh completed: {} symbols in {} ms",
+                        refreshes.size(), System.currentTimeMillis() - startedAt));
+    }
+
+    /**
+     * 접속 중인 대시보드가 보고 있는 티커 갱신 (브로드캐스트마다 호출, 연결이 없으면 빈 집합)
+     */
+    public void updateDashboardDemand(Collection<String> symbols) {
+        watchedSymbols.put(DASHBOARD_DEMAND, symbols.stream()
+                .map(this::normalize)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * 현재 관심 티커: 대시보드 연결 + 활성화된 주식 알림 규칙의 대상
+     */
+    private Set<String> currentlyWatched() {
+        Set<String> watched = new HashSet<>();
+        watchedSymbols.values().forEach(watched::addAll);
+        try {
+            alertRuleRepository.findByEnabledTrue().stream()
+                    .filter(rule -> rule.getType().startsWith("stock_"))
+                    .map(AlertRule::getTarget)
+                    .filter(target -> target != null && !target.isBlank())
+                    .map(this::normalize)
+                    .forEach(watched::add);
+        } catch (Exception e) {
+            log.debug("Failed to load stock alert targets: {}", e.getMessage());
         }
-        log.info("Stock quotes refresh completed");
+        return watched;
+    }
+
+    private String normalize(String symbol) {
+        return symbol.toUpperCase().trim();
     }
 
     /**
@@ -83,21 +203,151 @@ public class FinnhubService {
      * 3. 캐시 만료됨 → 캐시 반환 (백그라운드에서 갱신됨)
      */
     public FinnhubQuoteResponse getQuote(String symbol) {
-        String normalizedSymbol = symbol.toUpperCase().trim();
+        try {
+            return getQuoteAsync(symbol).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Quote 비동기 조회 (캐시 적용)
+     * 캐시에 없으면 같은 티커를 조회 중인 요청과 하나의 API 호출을 공유
+     */
+    public CompletableFuture<FinnhubQuoteResponse> getQuoteAsync(String symbol) {
+        String normalizedSymbol = normalize(symbol);
         CachedQuote cached = quoteCache.get(normalizedSymbol);
 
         // 캐시에 있으면 바로 반환 (만료 여부 상관없이 - 백그라운드에서 갱신됨)
+        // 조회 중인 티커의 갱신 주기는 quoteRefreshInterval이므로 그보다 오래되면 stale hit
         if (cached != null) {
-            return cached.response();
+            Instant now = Instant.now();
+            if (Duration.between(cached.fetchedAt, now).compareTo(marketCalendar.quoteRefreshInterval()) >= 0) {
+                cacheMetrics.staleHit();
+            } else {
+                cacheMetrics.hit();
+            }
+            cached.lastDemandAt = now;
+            return CompletableFuture.completedFuture(cached.response);
         }
 
-        // 캐시에 없으면 API 호출
+        cacheMetrics.miss();
         log.info("Fetching quote for {} (not in cache)", normalizedSymbol);
-        FinnhubQuoteResponse response = fetchQuoteFromApi(normalizedSymbol);
-        if (response != null) {
-            quoteCache.put(normalizedSymbol, new CachedQuote(response, Instant.now()));
+        return loadQuote(normalizedSymbol, Priority.INTERACTIVE);
+    }
+
+    /**
+     * 여러 티커 병렬 조회 (캐시 적용)
+     * 전체 대기 시간은 가장 느린 티커 하나 수준이며, quote-timeout-ms 안에 조회하지 못했거나
+     * 실패한 티커는 결과에서 제외
+     *
+     * @return 요청한 symbol 문자열 -> Quote (요청 순서 유지)
+     */
+    public Map<String, FinnhubQuoteResponse> getQuotes(Collection<String> symbols) {
+        Map<String, CompletableFuture<FinnhubQuoteResponse>> futures = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            futures.computeIfAbsent(symbol, this::getQuoteAsync);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(properties.getQuoteTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 개별 결과는 아래에서 확인
+        }
+
+        Map<String, FinnhubQuoteResponse> quotes = new LinkedHashMap<>();
+        futures.forEach((symbol, future) -> {
+            if (!future.isDone()) {
+                log.warn("Timed out waiting for quote of {}", symbol);
+                return;
+            }
+            try {
+                FinnhubQuoteResponse response = future.join();
+                if (response != null) {
+                    quotes.put(symbol, response);
+                }
+            } catch (CompletionException e) {
+                log.warn("Failed to get quote for {}: {}", symbol, e.getCause().getMessage());
+            }
+        });
+        return quotes;
+    }
+
+    /**
+     * 단일 비행 Quote 로더
+     * 같은 티커에 대해 진행 중인 요청이 있으면 그 future를 반환하고, 없으면 새로 조회 후 캐시 저장
+     */
+    private CompletableFuture<FinnhubQuoteResponse> loadQuote(String symbol, Priority priority) {
+        CompletableFuture<FinnhubQuoteResponse> future = new CompletableFuture<>();
+        CompletableFuture<FinnhubQuoteResponse> existing = inFlightQuotes.putIfAbsent(symbol, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        requestScheduler.submit(priority, () -> fetchQuoteFromApi(symbol))
+                .whenComplete((response, e) -> {
+                    if (response != null) {
+                        store(symbol, response);
+                    }
+                    // 캐시 저장 후 제거해야 이후 호출이 API를 다시 부르지 않음
+                    inFlightQuotes.remove(symbol, future);
+                    if (e != null) {
+                        future.completeExceptionally(e);
+                    } else {
+                        future.complete(response);
+                    }
+                });
+        return future;
+    }
+
+    /**
+     * 조회 결과 캐시 저장 (기존 엔트리는 수요 시각 유지), 최대 크기 초과 시 제거
+     */
+    private void store(String symbol, FinnhubQuoteResponse response) {
+        Instant now = Instant.now();
+        CachedQuote entry = quoteCache.get(symbol);
+        if (entry != null) {
+            entry.response = response;
+            entry.fetchedAt = now;
+            return;
+        }
+        quoteCache.put(symbol, new CachedQuote(response, now));
+        evictOverflow();
+    }
+
+    /**
+     * 최대 크기 초과분 제거: 관심 티커가 아닌 것 중 가장 오래 수요가 없던 티커부터 (LRU)
+     * 모두 관심 티커라면 관심 티커도 LRU 순서로 제거
+     */
+    private void evictOverflow() {
+        int overflow = quoteCache.size() - properties.getQuoteCache().getMaxSize();
+        if (overflow <= 0) {
+            return;
+        }
+
+        Set<String> watched = new HashSet<>();
+        watchedSymbols.values().forEach(watched::addAll);
+        Map<String, Instant> demandSnapshot = new HashMap<>();
+        quoteCache.forEach((symbol, entry) -> demandSnapshot.put(symbol, entry.lastDemandAt));
+
+        List<String> victims = demandSnapshot.entrySet().stream()
+                .sorted(Comparator.<Map.Entry<String, Instant>, Boolean>comparing(e -> watched.contains(e.getKey()))
+                        .thenComparing(Map.Entry::getValue))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList();
+        for (String symbol : victims) {
+            if (quoteCache.remove(symbol) != null) {
+                cacheMetrics.eviction();
+                log.debug("Evicted quote {} (cache full)", symbol);
+            }
         }
-        return response;
     }
 
     /**
@@ -107,18 +357,36 @@ public class FinnhubService {
         String url = buildUrl("/quote")
                 .queryParam("symbol", symbol)
                 .toUriString();
-        return get(url, FinnhubQuoteResponse.class);
+        long startedAt = System.nanoTime();
+        boolean success = false;
+        try {
+            FinnhubQuoteResponse response = get(url, FinnhubQuoteResponse.class);
+            success = response != null;
+            return response;
+        } finally {
+            cacheMetrics.recordLoad(System.nanoTime() - startedAt, success);
+        }
     }
 
     /**
      * 캐시 상태 조회
      */
     public Map<String, Object> getCacheStatus() {
-        return Map.of(
-                "cachedSymbols", quoteCache.keySet(),
-                "cacheSize", quoteCache.size(),
-                "cacheTtlSeconds", CACHE_TTL.getSeconds()
-        );
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("cachedSymbols", quoteCache.keySet());
+        status.put("cacheSize", quoteCache.size());
+        status.put("maxSize", properties.getQuoteCache().getMaxSize());
+        status.put("marketSession", marketCalendar.currentSession());
+        status.put("cacheTtlSeconds", marketCalendar.quoteRefreshInterval().getSeconds());
+        status.put("watchedSymbols", currentlyWatched());
+        status.put("hits", cacheMetrics.hits());
+        status.put("staleHits", cacheMetrics.staleHits());
+        status.put("misses", cacheMetrics.misses());
+        status.put("hitRatio", cacheMetrics.hitRatio());
+        status.put("evictions", cacheMetrics.evictions());
+        status.put("inFlightQuotes", inFlightQuotes.size());
+        status.put("pendingCalls", requestScheduler.pendingCounts());
+        return status;
     }
 
     /**
@@ -129,7 +397,8 @@ public class FinnhubService {
         String url = buildUrl("/stock/profile2")
                 .queryParam("symbol", symbol)
                 .toUriString();
-        return get(url, CompanyProfileResponse.class);
+        return requestScheduler.call(Priority.METADATA,
+                () -> get(url, CompanyProfileResponse.class));
     }
 
     /**
@@ -141,7 +410,8 @@ public class FinnhubService {
         String url = buildUrl("/news")
                 .queryParam("category", category)
                 .toUriString();
-        return getList(url, new ParameterizedTypeReference<>() {});
+        return requestScheduler.call(Priority.METADATA,
+                () -> getList(url, new ParameterizedTypeReference<List<MarketNewsResponse>>() {}));
     }
 
     /**
@@ -154,7 +424,8 @@ public class FinnhubService {
                 .queryParam("from", from)
                 .queryParam("to", to)
                 .toUriString();
-        return getList(url, new ParameterizedTypeReference<>() {});
+        return requestScheduler.call(Priority.METADATA,
+                () -> getList(url, new ParameterizedTypeReference<List<MarketNewsResponse>>() {}));
     }
 
     /**
@@ -165,7 +436,8 @@ public class FinnhubService {
         String url = buildUrl("/stock/recommendation")
                 .queryParam("symbol", symbol)
                 .toUriString();
-        return getList(url, new ParameterizedTypeReference<>() {});
+        return requestScheduler.call(Priority.METADATA,
+                () -> getList(url, new ParameterizedTypeReference<List<RecommendationTrendResponse>>() {}));
     }
 
     /**
@@ -177,7 +449,8 @@ public class FinnhubService {
                 .queryParam("symbol", symbol)
                 .queryParam("metric", "all")
                 .toUriString();
-        return get(url, BasicFinancialsResponse.class);
+        return requestScheduler.call(Priority.METADATA,
+                () -> get(url, BasicFinancialsResponse.class));
     }
 
     /**
@@ -188,7 +461,8 @@ public class FinnhubService {
         String url = buildUrl("/stock/peers")
                 .queryParam("symbol", symbol)
                 .toUriString();
-        return getList(url, new ParameterizedTypeReference<>() {});
+        return requestScheduler.call(Priority.METADATA,
+                () -> getList(url, new ParameterizedTypeReference<List<String>>() {}));
     }
 
     private UriComponentsBuilder buildUrl(String path) {
@@ -206,13 +480,27 @@ public class FinnhubService {
 
     private <T> T get(String url, Class<T> responseType) {
         HttpEntity<Void> entity = new HttpEntity<>(createHeaders());
-        ResponseEntity<T> response = restTemplate.exchange(url, HttpMethod.GET, entity, responseType);
-        return response.getBody();
+        RequestMetricsRegistry.Call call = metrics.startDependency(RequestMetricsRegistry.FINNHUB);
+        try {
+            ResponseEntity<T> response = restTemplate.exchange(url, HttpMethod.GET, entity, responseType);
+            call.end(false);
+            return response.getBody();
+        } catch (RuntimeException e) {
+            call.end(true);
+            throw e;
+        }
     }
 
     private <T> List<T> getList(String url, ParameterizedTypeReference<List<T>> responseType) {
         HttpEntity<Void> entity = new HttpEntity<>(createHeaders());
-        ResponseEntity<List<T>> response = restTemplate.exchange(url, HttpMethod.GET, entity, responseType);
-        return response.getBody();
+        RequestMetricsRegistry.Call call = metrics.startDependency(RequestMetricsRegistry.FINNHUB);
+        try {
+            ResponseEntity<List<T>> response = restTemplate.exchange(url, HttpMethod.GET, entity, responseType);
+            call.end(false);
+            return response.getBody();
+        } catch (RuntimeException e) {
+            call.end(true);
+            throw e;
+        }
     }
 }
@@ -22,10 +22,17 @@ public class GeminiService {
     @Value("${gemini.api.key:}")
     private String apiKey;
 
+    private final RequestMetricsRegistry metrics;
+
+    public GeminiService(RequestMetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Generate content using Gemini API with streaming
      */
     public String generateContentStream(String prompt, Map<String, Object> settings, String systemInstruction) {
+        RequestMetricsRegistry.Call call = metrics.startDependency(RequestMetricsRegistry.GEMINI);
         try {
             // API 키로 클라이언트 생성 (Builder 패턴 사용)
             Client client = Client.builder()
@@ -108,9 +115,11 @@ public class GeminiService {
                 }
             }
             
+            call.end(false);
             return fullResponse.toString();
             
         } catch (Exception e) {
+            call.end(true);
             log.error("Error generating content with Gemini API: {}", e.getMessage(), e);
             return "AI 서비스 호출 중 오류가 발생했어요. 잠시 후 다시 시도해주세요.";
         }
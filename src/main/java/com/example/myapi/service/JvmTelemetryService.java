@@ -0,0 +1,267 @@
+package com.example.myapi.service;
+
+import com.example.myapi.config.JvmTelemetryProperties;
+import com.example.myapi.dto.system.JvmTelemetryWindow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * JFR 스트리밍 기반 JVM 텔레메트리
+ * - 프로세스 안에서 RecordingStream으로 GC 일시정지, 할당 샘플, safepoint, 스레드 CPU, 모니터 경합 이벤트를 구독
+ * - 이벤트는 JFR 스트림 스레드 하나에서만 현재 구간에 누적, flush(약 1초)마다 구간이 끝났으면 닫아 보관
+ * - 닫힌 구간은 windowCount개까지 메모리에 보관, 히스토리 저장과 SSE "jvm" 이벤트가 최신 구간을 사용
+ */
+@Service
+public class JvmTelemetryService {
+
+    private static final Logger log = LoggerFactory.getLogger(JvmTelemetryService.class);
+
+    private static final double[] PAUSE_BUCKET_BOUNDS_MS = {1, 5, 20, 100};
+    private static final String[] PAUSE_BUCKET_LABELS = {"<1ms", "1-5ms", "5-20ms", "20-100ms", ">=100ms"};
+    private static final int MAX_LOCK_CLASSES = 10;
+    private static final Pattern THREAD_NUMBER_SUFFIX = Pattern.compile("[-#_ ]?\\d+$");
+
+    private final JvmTelemetryProperties properties;
+    private final ConcurrentLinkedDeque<JvmTelemetryWindow> windows = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger windowSize = new AtomicInteger();
+
+    private RecordingStream stream;
+    private volatile boolean running;
+    private volatile String failure;
+
+    // 아래 누적값은 JFR 스트림 스레드에서만 접근
+    private Instant windowStart = Instant.now();
+    private int gcCount;
+    private double gcPauseTotalMs;
+    private double gcPauseMaxMs;
+    private final int[] gcPauseBuckets = new int[PAUSE_BUCKET_LABELS.length];
+    private long allocationBytes;
+    private int safepointCount;
+    private double safepointTotalMs;
+    private double safepointMaxMs;
+    private int lockCount;
+    private double lockMaxMs;
+    private final Map<String, Integer> lockByClass = new HashMap<>();
+    private final Map<String, Double> threadCpuSum = new HashMap<>();
+
+    public JvmTelemetryService(JvmTelemetryProperties properties) {
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            RecordingStream rs = new RecordingStream();
+            rs.enable("jdk.GarbageCollection");
+            rs.enable("jdk.ObjectAllocationSample").with("throttle", "150/s");
+            rs.enable("jdk.SafepointBegin");
+            rs.enable("jdk.ThreadCPULoad").withPeriod(Duration.ofSeconds(1));
+            rs.enable("jdk.JavaMonitorEnter").withThreshold(Duration.ofMillis(properties.getLockThresholdMs()));
+
+            rs.onEvent("jdk.GarbageCollection", this::onGarbageCollection);
+            rs.onEvent("jdk.ObjectAllocationSample", e -> allocationBytes += e.getLong("weight"));
+            rs.onEvent("jdk.SafepointBegin", this::onSafepoint);
+            rs.onEvent("jdk.ThreadCPULoad", this::onThreadCpuLoad);
+            rs.onEvent("jdk.JavaMonitorEnter", this::onMonitorEnter);
+            rs.onFlush(this::rollIfDue);
+            rs.onError(e -> log.warn("JFR telemetry stream error: {}", e.getMessage()));
+            rs.onClose(() -> running = false);
+            rs.setMaxAge(Duration.ofMinutes(1));
+
+            windowStart = Instant.now();
+            rs.startAsync();
+            stream = rs;
+            running = true;
+            log.info("JFR telemetry stream started ({} ms windows)", properties.getWindowMs());
+        } catch (Exception | LinkageError e) {
+            // JFR을 쓸 수 없는 런타임이면 텔레메트리 없이 동작
+            failure = e.getMessage();
+            log.warn("JFR telemetry unavailable: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    // ==================== Event Handlers ====================
+
+    private void onGarbageCollection(RecordedEvent event) {
+        double longest = toMillis(event.getDuration("longestPause"));
+        gcCount++;
+        gcPauseTotalMs += toMillis(event.getDuration("sumOfPauses"));
+        gcPauseMaxMs = Math.max(gcPauseMaxMs, longest);
+        gcPauseBuckets[bucketOf(longest)]++;
+    }
+
+    private void onSafepoint(RecordedEvent event) {
+        double millis = toMillis(event.getDuration());
+        safepointCount++;
+        safepointTotalMs += millis;
+        safepointMaxMs = Math.max(safepointMaxMs, millis);
+    }
+
+    private void onThreadCpuLoad(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        String name = thread != null && thread.getJavaName() != null ? thread.getJavaName() : "native";
+        double load = event.getFloat("user") + event.getFloat("system");
+        threadCpuSum.merge(poolName(name), load, Double::sum);
+    }
+
+    private void onMonitorEnter(RecordedEvent event) {
+        double millis = toMillis(event.getDuration());
+        lockCount++;
+        lockMaxMs = Math.max(lockMaxMs, millis);
+        String monitorClass = event.getClass("monitorClass") != null
+                ? event.getClass("monitorClass").getName() : "unknown";
+        lockByClass.merge(monitorClass, 1, Integer::sum);
+    }
+
+    /**
+     * 구간이 끝났으면 닫아서 보관하고 누적값 초기화
+     */
+    private void rollIfDue() {
+        Instant now = Instant.now();
+        long elapsedMs = Duration.between(windowStart, now).toMillis();
+        if (elapsedMs < properties.getWindowMs()) {
+            return;
+        }
+        double seconds = elapsedMs / 1000.0;
+
+        Map<String, Integer> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < PAUSE_BUCKET_LABELS.length; i++) {
+            histogram.put(PAUSE_BUCKET_LABELS[i], gcPauseBuckets[i]);
+        }
+
+        List<Map.Entry<String, Integer>> lockClasses = new ArrayList<>(lockByClass.entrySet());
+        lockClasses.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        Map<String, Integer> topLocks = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : lockClasses.subList(0, Math.min(MAX_LOCK_CLASSES, lockClasses.size()))) {
+            topLocks.put(entry.getKey(), entry.getValue());
+        }
+
+        // ThreadCPULoad는 스레드마다 1초에 한 번이므로 합계를 구간 길이로 나누면 풀별 평균 사용률
+        Map<String, Double> cpuByPool = new LinkedHashMap<>();
+        threadCpuSum.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .forEach(entry -> cpuByPool.put(entry.getKey(), round(entry.getValue() / seconds * 100)));
+
+        JvmTelemetryWindow window = new JvmTelemetryWindow(
+                windowStart,
+                now,
+                gcCount,
+                round(gcPauseTotalMs),
+                round(gcPauseMaxMs),
+                histogram,
+                round(allocationBytes / seconds),
+                safepointCount,
+                round(safepointTotalMs),
+                round(safepointMaxMs),
+                lockCount,
+                round(lockMaxMs),
+                topLocks,
+                cpuByPool
+        );
+        windows.addLast(window);
+        if (windowSize.incrementAndGet() > properties.getWindowCount()) {
+            windows.pollFirst();
+            windowSize.decrementAndGet();
+        }
+
+        windowStart = now;
+        gcCount = 0;
+        gcPauseTotalMs = 0;
+        gcPauseMaxMs = 0;
+        Arrays.fill(gcPauseBuckets, 0);
+        allocationBytes = 0;
+        safepointCount = 0;
+        safepointTotalMs = 0;
+        safepointMaxMs = 0;
+        lockCount = 0;
+        lockMaxMs = 0;
+        lockByClass.clear();
+        threadCpuSum.clear();
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * 가장 최근에 닫힌 구간 (없으면 null)
+     */
+    public JvmTelemetryWindow latest() {
+        return windows.peekLast();
+    }
+
+    /**
+     * 최근 count개 구간 (오래된 순)
+     */
+    public List<JvmTelemetryWindow> recent(int count) {
+        List<JvmTelemetryWindow> all = new ArrayList<>(windows);
+        int from = Math.max(0, all.size() - Math.max(1, count));
+        return all.subList(from, all.size());
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", properties.isEnabled());
+        status.put("running", running);
+        status.put("windowMs", properties.getWindowMs());
+        status.put("windows", windowSize.get());
+        status.put("windowCapacity", properties.getWindowCount());
+        if (failure != null) {
+            status.put("error", failure);
+        }
+        return status;
+    }
+
+    // ==================== Helpers ====================
+
+    private static int bucketOf(double pauseMs) {
+        for (int i = 0; i < PAUSE_BUCKET_BOUNDS_MS.length; i++) {
+            if (pauseMs < PAUSE_BUCKET_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return PAUSE_BUCKET_BOUNDS_MS.length;
+    }
+
+    /**
+     * 스레드 이름에서 번호 접미사를 떼어 풀 이름으로 묶음 (예: sse-writer-3 -> sse-writer)
+     */
+    static String poolName(String threadName) {
+        String pool = THREAD_NUMBER_SUFFIX.matcher(threadName).replaceFirst("");
+        return pool.isEmpty() ? threadName : pool;
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration != null ? duration.toNanos() / 1_000_000.0 : 0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -5,6 +5,7 @@ import com.example.myapi.dto.info.AirQualityResponse;
 import com.example.myapi.dto.info.ExchangeRateResponse;
 import com.example.myapi.dto.info.HolidayResponse;
 import com.example.myapi.dto.info.SunTimesResponse;
+import com.example.myapi.service.CityCatalog.NearestCity;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -22,6 +23,7 @@ import java.time.LocalTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -32,21 +34,40 @@ import java.util.concurrent.ConcurrentHashMap;
 public class LifeInfoService {
 
     private static final Logger log = LoggerFactory.getLogger(LifeInfoService.class);
+    // 이 거리 안의 좌표는 가장 가까운 카탈로그 도시의 일출/일몰을 사용 (일출 시각 차이 약 1~2분)
+    private static final double SUN_TIMES_SNAP_KM = 25.0;
 
     private final RestTemplate restTemplate;
+    private final RequestMetricsRegistry metrics;
     private final ObjectMapper objectMapper;
     private final AirKoreaProperties airKoreaProperties;
+    private final CityCatalog cityCatalog;
 
     // 캐시
     private final Map<String, ExchangeRateResponse> exchangeRateCache = new ConcurrentHashMap<>();
     private final Map<String, AirQualityResponse> airQualityCache = new ConcurrentHashMap<>();
-    private final Map<String, SunTimesResponse> sunTimesCache = new ConcurrentHashMap<>();
+    // 일출/일몰은 근처 도시끼리 공유하므로 계산된 시각만 보관 (지명/좌표는 호출자 값으로 응답)
+    private final Map<String, SunTimes> sunTimesCache = new ConcurrentHashMap<>();
+    private final CacheMetricsRegistry.CacheMetrics exchangeRateMetrics;
+    private final CacheMetricsRegistry.CacheMetrics airQualityMetrics;
+    private final CacheMetricsRegistry.CacheMetrics sunTimesMetrics;
 
     public LifeInfoService(RestTemplate restTemplate, ObjectMapper objectMapper, 
-                          AirKoreaProperties airKoreaProperties) {
+                          AirKoreaProperties airKoreaProperties,
+                          CityCatalog cityCatalog,
+                          RequestMetricsRegistry metrics,
+                          CacheMetricsRegistry cacheMetricsRegistry) {
         this.restTemplate = restTemplate;
+        this.metrics = metrics;
         this.objectMapper = objectMapper;
         this.airKoreaProperties = airKoreaProperties;
+        this.cityCatalog = cityCatalog;
+        this.exchangeRateMetrics = cacheMetricsRegistry.register("life.exchange",
+                () -> exchangeRateCache.values().stream().map(ExchangeRateResponse::timestamp).toList());
+        this.airQualityMetrics = cacheMetricsRegistry.register("life.air",
+                () -> airQualityCache.values().stream().map(AirQualityResponse::measuredAt).toList());
+        this.sunTimesMetrics = cacheMetricsRegistry.register("life.sun", sunTimesCache::size,
+                () -> sunTimesCache.values().stream().map(SunTimes::fetchedAt).toList());
     }
 
     // ==================== 환율 ====================
@@ -59,9 +80,13 @@ public class LifeInfoService {
         ExchangeRateResponse cached = exchangeRateCache.get(cacheKey);
         
         if (cached != null) {
+            exchangeRateMetrics.hit();
             return cached;
         }
 
+        exchangeRateMetrics.miss();
+        long startedAt = System.nanoTime();
+        boolean loaded = false;
         try {
             // ExchangeRate-API (무료) 사용
             String url = String.format("https://api.exchangerate-api.com/v4/latest/%s", baseCurrency);
@@ -82,10 +107,13 @@ public class LifeInfoService {
                 
                 ExchangeRateResponse result = ExchangeRateResponse.of(baseCurrency, rates);
                 exchangeRateCache.put(cacheKey, result);
+                loaded = true;
                 return result;
             }
         } catch (Exception e) {
             log.error("Failed to fetch exchange rates: {}", e.getMessage());
+        } finally {
+            exchangeRateMetrics.recordLoad(System.nanoTime() - startedAt, loaded);
         }
 
         // 기본값 반환
@@ -108,9 +136,14 @@ public class LifeInfoService {
     public AirQualityResponse getAirQuality(String location) {
         AirQualityResponse cached = airQualityCache.get(location);
         if (cached != null) {
+            airQualityMetrics.hit();
             return cached;
         }
 
+        // 키 미설정/오류로 기본값을 반환한 경우도 실패한 로드로 집계
+        airQualityMetrics.miss();
+        long startedAt = System.nanoTime();
+        boolean loaded = false;
         try {
             // API 호출
             String apiKey = airKoreaProperties.getApiKey();
@@ -143,14 +176,21 @@ public class LifeInfoService {
             
             log.debug("Calling Air Korea API for location: {} - URL: {}", location, url.replace(serviceKey, "***"));
             ResponseEntity<String> response;
+            RequestMetricsRegistry.Call call = metrics.startDependency(RequestMetricsRegistry.AIRKOREA);
             try {
                 response = restTemplate.getForEntity(url, String.class);
+                call.end(false);
             } catch (org.springframework.web.client.HttpClientErrorException.Unauthorized e) {
+                call.end(true);
                 log.warn("Air Korea API returned 401 Unauthorized. Please verify the API key in application.yml. Using default values.");
                 return AirQualityResponse.of(location, 40, 25, Instant.now());
             } catch (org.springframework.web.client.HttpClientErrorException e) {
+                call.end(true);
                 log.warn("Air Korea API error ({}): {}. Using default values.", e.getStatusCode(), e.getMessage());
                 return AirQualityResponse.of(location, 40, 25, Instant.now());
+            } catch (RuntimeException e) {
+                call.end(true);
+                throw e;
             }
             
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
@@ -198,11 +238,14 @@ public class LifeInfoService {
                     pm25 != null ? pm25 : 20, 
                     Instant.now());
                 airQualityCache.put(location, result);
+                loaded = true;
                 return result;
             }
         } catch (Exception e) {
             log.error("Failed to fetch air quality from API: {} - {}. Using default values.", 
                      e.getClass().getSimpleName(), e.getMessage());
+        } finally {
+            airQualityMetrics.recordLoad(System.nanoTime() - startedAt, loaded);
         }
 
         // API 실패 시 기본값 반환
@@ -236,21 +279,36 @@ public class LifeInfoService {
 
     // ==================== 일출/일몰 ====================
 
+    private record SunTimes(String date, LocalTime sunrise, LocalTime sunset, LocalTime solarNoon,
+                            Instant fetchedAt) {
+    }
+
     /**
      * 일출/일몰 시간 조회
      */
     public SunTimesResponse getSunTimes(double lat, double lon, String locationName) {
-        String cacheKey = String.format("%.2f,%.2f", lat, lon);
-        SunTimesResponse cached = sunTimesCache.get(cacheKey);
+        // 카탈로그 도시 근처 좌표는 그 도시 기준으로 조회/캐시 (좌표마다 외부 호출하지 않음)
+        Optional<NearestCity> nearest = cityCatalog.nearest(lat, lon)
+                .filter(city -> city.distanceKm() <= SUN_TIMES_SNAP_KM);
+        double queryLat = nearest.map(city -> city.city().lat()).orElse(lat);
+        double queryLon = nearest.map(city -> city.city().lon()).orElse(lon);
+        String cacheKey = String.format("%.2f,%.2f", queryLat, queryLon);
+        String today = LocalDate.now().toString();
+        SunTimes cached = sunTimesCache.get(cacheKey);
         
-        if (cached != null && cached.date().equals(LocalDate.now().toString())) {
-            return cached;
+        if (cached != null && cached.date().equals(today)) {
+            sunTimesMetrics.hit();
+            return SunTimesResponse.of(locationName, lat, lon, today,
+                    cached.sunrise(), cached.sunset(), cached.solarNoon());
         }
 
+        sunTimesMetrics.miss();
+        long startedAt = System.nanoTime();
+        boolean loaded = false;
         try {
             String url = String.format(
                     "https://api.sunrise-sunset.org/json?lat=%f&lng=%f&formatted=0",
-                    lat, lon);
+                    queryLat, queryLon);
             ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
             
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
@@ -262,20 +320,20 @@ public class LifeInfoService {
                     LocalTime sunset = parseUtcTimeToLocalTime(results.get("sunset").asText());
                     LocalTime solarNoon = parseUtcTimeToLocalTime(results.get("solar_noon").asText());
                     
-                    SunTimesResponse result = SunTimesResponse.of(
-                            locationName, lat, lon, LocalDate.now().toString(),
-                            sunrise, sunset, solarNoon);
-                    sunTimesCache.put(cacheKey, result);
-                    return result;
+                    sunTimesCache.put(cacheKey, new SunTimes(today, sunrise, sunset, solarNoon, Instant.now()));
+                    loaded = true;
+                    return SunTimesResponse.of(locationName, lat, lon, today, sunrise, sunset, solarNoon);
                 }
             }
         } catch (Exception e) {
             log.error("Failed to fetch sun times: {}", e.getMessage());
+        } finally {
+            sunTimesMetrics.recordLoad(System.nanoTime() - startedAt, loaded);
         }
 
         // 기본값 (서울 기준 대략적인 값)
         return SunTimesResponse.of(
-                locationName, lat, lon, LocalDate.now().toString(),
+                locationName, lat, lon, today,
                 LocalTime.of(6, 30), LocalTime.of(18, 30), LocalTime.of(12, 30));
     }
 
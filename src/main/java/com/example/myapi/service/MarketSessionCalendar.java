@@ -0,0 +1,149 @@
+package com.example.myapi.service;
+
+import com.example.myapi.config.MarketHoursProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미국 주식시장(NYSE/NASDAQ) 거래 세션 캘린더 (America/New_York 기준)
+ * - 프리마켓 04:00~09:30, 정규장 09:30~16:00, 애프터마켓 16:00~20:00
+ * - 주말과 NYSE 정기 휴장일(대체 휴일 포함), 설정의 임시 휴장일은 종일 휴장
+ * - 조기 폐장(반일장)은 정규장으로 취급
+ */
+@Component
+public class MarketSessionCalendar {
+
+    private static final ZoneId MARKET_ZONE = ZoneId.of("America/New_York");
+    private static final LocalTime PRE_MARKET_OPEN = LocalTime.of(4, 0);
+    private static final LocalTime REGULAR_OPEN = LocalTime.of(9, 30);
+    private static final LocalTime REGULAR_CLOSE = LocalTime.of(16, 0);
+    private static final LocalTime AFTER_HOURS_CLOSE = LocalTime.of(20, 0);
+
+    public enum MarketSession {
+        PRE_MARKET,
+        REGULAR,
+        AFTER_HOURS,
+        CLOSED
+    }
+
+    private final MarketHoursProperties properties;
+
+    // 연도별 휴장일 캐시
+    private final Map<Integer, Set<LocalDate>> holidaysByYear = new ConcurrentHashMap<>();
+
+    public MarketSessionCalendar(MarketHoursProperties properties) {
+        this.properties = properties;
+    }
+
+    public MarketSession currentSession() {
+        return sessionAt(Instant.now());
+    }
+
+    public MarketSession sessionAt(Instant instant) {
+        ZonedDateTime marketTime = instant.atZone(MARKET_ZONE);
+        if (!isTradingDay(marketTime.toLocalDate())) {
+            return MarketSession.CLOSED;
+        }
+
+        LocalTime time = marketTime.toLocalTime();
+        if (time.isBefore(PRE_MARKET_OPEN)) return MarketSession.CLOSED;
+        if (time.isBefore(REGULAR_OPEN)) return MarketSession.PRE_MARKET;
+        if (time.isBefore(REGULAR_CLOSE)) return MarketSession.REGULAR;
+        if (time.isBefore(AFTER_HOURS_CLOSE)) return MarketSession.AFTER_HOURS;
+        return MarketSession.CLOSED;
+    }
+
+    /**
+     * 현재 세션 기준 관심 티커 Quote 갱신 간격
+     */
+    public Duration quoteRefreshInterval() {
+        return Duration.ofSeconds(properties.getQuoteRefreshSeconds().forSession(currentSession()));
+    }
+
+    /**
+     * 현재 세션 기준 대시보드 전체 데이터 브로드캐스트 간격
+     */
+    public Duration broadcastInterval() {
+        return Duration.ofSeconds(properties.getBroadcastSeconds().forSession(currentSession()));
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        if (day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY) {
+            return false;
+        }
+        return !holidaysByYear.computeIfAbsent(date.getYear(), this::holidays).contains(date)
+                && !properties.getExtraHolidays().contains(date);
+    }
+
+    /**
+     * NYSE 정기 휴장일
+     * 토요일 휴일은 전날(금), 일요일 휴일은 다음날(월)에 휴장 (단, 신정이 토요일이면 대체 휴장 없음)
+     */
+    private Set<LocalDate> holidays(int year) {
+        Set<LocalDate> holidays = new HashSet<>();
+        LocalDate newYear = LocalDate.of(year, Month.JANUARY, 1);
+        if (newYear.getDayOfWeek() != DayOfWeek.SATURDAY) {
+            holidays.add(observed(newYear));
+        }
+        holidays.add(nthWeekday(year, Month.JANUARY, DayOfWeek.MONDAY, 3));      // Martin Luther King Jr. Day
+        holidays.add(nthWeekday(year, Month.FEBRUARY, DayOfWeek.MONDAY, 3));     // Washington's Birthday
+        holidays.add(easterSunday(year).minusDays(2));                            // Good Friday
+        holidays.add(LocalDate.of(year, Month.MAY, 1)
+                .with(TemporalAdjusters.lastInMonth(DayOfWeek.MONDAY)));          // Memorial Day
+        if (year >= 2022) {
+            holidays.add(observed(LocalDate.of(year, Month.JUNE, 19)));          // Juneteenth
+        }
+        holidays.add(observed(LocalDate.of(year, Month.JULY, 4)));               // Independence Day
+        holidays.add(nthWeekday(year, Month.SEPTEMBER, DayOfWeek.MONDAY, 1));    // Labor Day
+        holidays.add(nthWeekday(year, Month.NOVEMBER, DayOfWeek.THURSDAY, 4));   // Thanksgiving
+        holidays.add(observed(LocalDate.of(year, Month.DECEMBER, 25)));          // Christmas
+        return holidays;
+    }
+
+    private LocalDate observed(LocalDate holiday) {
+        return switch (holiday.getDayOfWeek()) {
+            case SATURDAY -> holiday.minusDays(1);
+            case SUNDAY -> holiday.plusDays(1);
+            default -> holiday;
+        };
+    }
+
+    private LocalDate nthWeekday(int year, Month month, DayOfWeek day, int n) {
+        return LocalDate.of(year, month, 1).with(TemporalAdjusters.dayOfWeekInMonth(n, day));
+    }
+
+    /**
+     * 부활절 (Anonymous Gregorian algorithm)
+     */
+    private LocalDate easterSunday(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = ((h + l - 7 * m + 114) % 31) + 1;
+        return LocalDate.of(year, month, day);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.myapi.service;
+
+import com.example.myapi.dto.news.NewsSearchHit;
+import com.example.myapi.dto.news.NewsSearchResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 뉴스 전문 검색용 메모리 역색인
+ * - RSS 피드 항목과 bs4news_news 기사를 문서 ID(rss:/db:) 기준으로 증분 반영 (같은 ID는 교체)
+ * - RSS 문서는 타임라인에서 밀려날 때 함께 제거 (RssService가 NewsTimelineIndex 제거 리스너로 연결)
+ * - 토큰화: 한글은 글자 bigram(한 글자 단어는 그대로), 그 외 문자/숫자는 소문자 단어 단위
+ * - 검색: 모든 질의 토큰을 포함한 문서만(AND), 제목 가중치 TITLE_WEIGHT, tf-idf 점수 후 최신순
+ * - 최대 MAX_DOCUMENTS건, 넘치면 가장 먼저 들어온 문서부터 제거
+ */
+@Component
+public class NewsSearchIndex {
+
+    private static final int MAX_DOCUMENTS = 50_000;
+    private static final int MAX_INDEXED_BODY_CHARS = 2000;
+    private static final int SNIPPET_CHARS = 160;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private record Document(int docId, String key, String type, String title, String snippet,
+                            String link, String source, Instant publishedAt, Map<String, Integer> terms) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final Map<String, Integer> docIdsByKey = new HashMap<>();
+    private final Deque<Integer> insertionOrder = new ArrayDeque<>();
+    private int nextDocId;
+
+    private final AtomicLong searchCount = new AtomicLong();
+    private final AtomicLong totalSearchNanos = new AtomicLong();
+
+    /**
+     * 문서 추가 또는 교체
+     * @param key 문서 고유 키 (예: rss:123, db:456)
+     */
+    public void upsert(String key, String type, String title, String body,
+                       String link, String source, Instant publishedAt) {
+        String safeTitle = title != null ? title : "";
+        String safeBody = body != null ? body : "";
+        if (safeBody.length() > MAX_INDEXED_BODY_CHARS) {
+            safeBody = safeBody.substring(0, MAX_INDEXED_BODY_CHARS);
+        }
+
+        Map<String, Integer> terms = new HashMap<>();
+        for (String token : tokenize(safeTitle)) {
+            terms.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(safeBody)) {
+            terms.merge(token, 1, Integer::sum);
+        }
+        String snippet = safeBody.length() > SNIPPET_CHARS ? safeBody.substring(0, SNIPPET_CHARS) + "..." : safeBody;
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docIdsByKey.get(key);
+            if (existing != null) {
+                removeDocument(existing);
+            }
+            if (terms.isEmpty()) {
+                return;
+            }
+
+            int docId = nextDocId++;
+            documents.put(docId, new Document(docId, key, type, safeTitle, snippet, link, source, publishedAt, terms));
+            docIdsByKey.put(key, docId);
+            insertionOrder.addLast(docId);
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(docId, weight));
+
+            while (documents.size() > MAX_DOCUMENTS) {
+                Integer oldest = insertionOrder.pollFirst();
+                if (oldest == null) {
+                    break;
+                }
+                removeDocument(oldest);
+            }
+            // 교체로 남은 옛 ID가 많아지면 정리
+            if (insertionOrder.size() > documents.size() * 2 + 1000) {
+                insertionOrder.removeIf(id -> !documents.containsKey(id));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 제거 (없으면 무시)
+     */
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdsByKey.get(key);
+            if (docId != null) {
+                removeDocument(docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocument(int docId) {
+        Document document = documents.remove(docId);
+        if (document == null) {
+            return;
+        }
+        docIdsByKey.remove(document.key(), docId);
+        for (String term : document.terms().keySet()) {
+            Map<Integer, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(docId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        // insertionOrder에 남은 ID는 poll 시 documents에 없으므로 무시됨
+    }
+
+    /**
+     * 검색 (점수순, 같으면 최신순)
+     * @param type null이면 전체, rss / db
+     * @param page 0부터
+     */
+    public NewsSearchResponse search(String query, String type, int page, int size) {
+        long startedAt = System.nanoTime();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageIndex = Math.max(0, page);
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query != null ? query : ""));
+
+        List<NewsSearchHit> matches = new ArrayList<>();
+        if (!queryTerms.isEmpty()) {
+            lock.readLock().lock();
+            try {
+                matches = collect(queryTerms, type);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(NewsSearchHit::score).reversed()
+                .thenComparing(NewsSearchHit::publishedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+
+        // page는 요청 값 그대로라 곱셈이 int 범위를 넘을 수 있음
+        int from = (int) Math.min((long) pageIndex * pageSize, matches.size());
+        int to = Math.min(from + pageSize, matches.size());
+        long elapsed = System.nanoTime() - startedAt;
+        searchCount.incrementAndGet();
+        totalSearchNanos.addAndGet(elapsed);
+
+        return new NewsSearchResponse(query, matches.size(), pageIndex, pageSize,
+                List.copyOf(matches.subList(from, to)), elapsed / 1_000_000.0);
+    }
+
+    /**
+     * 가장 짧은 posting 목록부터 교집합, tf-idf 합산 (읽기 잠금 안에서 호출)
+     */
+    private List<NewsSearchHit> collect(Set<String> queryTerms, String type) {
+        List<Map<Integer, Integer>> lists = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            Map<Integer, Integer> list = postings.get(term);
+            if (list == null) {
+                return new ArrayList<>();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        int totalDocs = documents.size();
+        List<NewsSearchHit> hits = new ArrayList<>();
+        for (Integer docId : lists.get(0).keySet()) {
+            Document document = documents.get(docId);
+            if (document == null || (type != null && !type.equals(document.type()))) {
+                continue;
+            }
+
+            double score = 0;
+            boolean all = true;
+            for (Map<Integer, Integer> list : lists) {
+                Integer weight = list.get(docId);
+                if (weight == null) {
+                    all = false;
+                    break;
+                }
+                double idf = Math.log(1.0 + (double) totalDocs / list.size());
+                score += (1.0 + Math.log(weight)) * idf;
+            }
+            if (all) {
+                hits.add(new NewsSearchHit(document.key(), document.type(), document.title(), document.snippet(),
+                        document.link(), document.source(), document.publishedAt(), score));
+            }
+        }
+        return hits;
+    }
+
+    public Map<String, Object> getStatus() {
+        long searches = searchCount.get();
+        Map<String, Object> status = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            status.put("documents", documents.size());
+            status.put("terms", postings.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        status.put("maxDocuments", MAX_DOCUMENTS);
+        status.put("searches", searches);
+        status.put("averageSearchMillis", searches == 0 ? 0.0 : totalSearchNanos.get() / 1_000_000.0 / searches);
+        return status;
+    }
+
+    /**
+     * 한글 구간은 bigram, 그 외 글자/숫자 구간은 단어 단위 토큰
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            char c = lower.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                i++;
+                continue;
+            }
+
+            boolean hangul = isHangul(c);
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(lower.charAt(i)) && isHangul(lower.charAt(i)) == hangul) {
+                i++;
+            }
+
+            if (!hangul) {
+                tokens.add(lower.substring(start, i));
+            } else if (i - start == 1) {
+                tokens.add(lower.substring(start, i));
+            } else {
+                for (int j = start; j + 2 <= i; j++) {
+                    tokens.add(lower.substring(j, j + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
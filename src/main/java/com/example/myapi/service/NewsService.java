@@ -1,5 +1,6 @@
 package com.example.myapi.service;
 
+import com.example.myapi.dto.news.NewsSnapshot;
 import com.example.myapi.entity.News;
 import java.util.List;
 import com.google.gson.JsonArray;
@@ -9,4 +10,5 @@ public interface NewsService {
     List<News> getNewsByCompany(String company);
     void updateNewsData();
     JsonArray getCachedNews();
+    NewsSnapshot getNewsSnapshot();
 }
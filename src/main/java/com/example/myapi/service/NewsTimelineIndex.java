@@ -0,0 +1,299 @@
+package com.example.myapi.service;
+
+import com.example.myapi.dto.rss.NewsTimelineItem;
+import com.example.myapi.dto.rss.NewsTimelineResponse;
+import com.example.myapi.dto.rss.RssItem;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 피드 통합 뉴스 타임라인 인덱스
+ * - RssService가 새로 받아온 항목을 ingest, 정규화한 링크 또는 제목이 같은 항목은 한 번만 보관
+ * - 게시 시각 역순으로 정렬된 통합 뷰와 출처별 뷰를 유지하므로 조회 시 다시 정렬하지 않음
+ * - 출처별로 PER_SOURCE_CAPACITY개까지 보관, 넘치면 가장 오래된 항목부터 제거 (제거 리스너에 통지)
+ * - sequence(인덱스 유입 순서)로 "X 이후 새 항목" 조회 지원
+ */
+@Component
+public class NewsTimelineIndex {
+
+    private static final int PER_SOURCE_CAPACITY = 300;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Comparator<Key> NEWEST_FIRST = Comparator
+            .comparing(Key::publishedAt, Comparator.reverseOrder())
+            .thenComparing(Key::sequence, Comparator.reverseOrder());
+
+    private record Key(Instant publishedAt, long sequence) {
+    }
+
+    private record Entry(Key key, NewsTimelineItem item, String linkKey, String titleKey) {
+    }
+
+    // 쓰기는 ingest에서 잠금, 읽기는 정렬된 동시성 맵에서 잠금 없이
+    private final NavigableMap<Key, Entry> merged = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final Map<String, NavigableMap<Key, Entry>> bySource = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Entry> bySequence = new ConcurrentSkipListMap<>();
+    private final Map<String, Entry> dedupKeys = new HashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong duplicateCount = new AtomicLong();
+    private final List<Consumer<NewsTimelineItem>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 피드 항목 반영
+     * @return 새로 추가되어 보관 중인 항목 (중복, 용량 초과로 바로 제거된 오래된 항목 제외)
+     */
+    public List<NewsTimelineItem> ingest(String source, List<RssItem> items) {
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+
+        List<NewsTimelineItem> added = new ArrayList<>();
+        Instant now = Instant.now();
+        synchronized (this) {
+            NavigableMap<Key, Entry> sourceView =
+                    bySource.computeIfAbsent(source, s -> new ConcurrentSkipListMap<>(NEWEST_FIRST));
+
+            for (RssItem item : items) {
+                String linkKey = canonicalLink(item.link());
+                String titleKey = normalizeTitle(item.title());
+                if (linkKey == null && titleKey == null) {
+                    continue;
+                }
+                if ((linkKey != null && dedupKeys.containsKey(linkKey))
+                        || (titleKey != null && dedupKeys.containsKey(titleKey))) {
+                    duplicateCount.incrementAndGet();
+                    continue;
+                }
+
+                long seq = sequence.incrementAndGet();
+                // 커서가 밀리초 단위이므로 키도 밀리초로 맞춤
+                Key key = new Key(parsePublishedAt(item.pubDate(), now).truncatedTo(ChronoUnit.MILLIS), seq);
+                Entry entry = new Entry(key, new NewsTimelineItem(
+                        seq,
+                        item.title(),
+                        item.link(),
+                        item.description(),
+                        item.pubDate(),
+                        source,
+                        key.publishedAt()
+                ), linkKey, titleKey);
+
+                merged.put(key, entry);
+                sourceView.put(key, entry);
+                bySequence.put(seq, entry);
+                if (linkKey != null) {
+                    dedupKeys.put(linkKey, entry);
+                }
+                if (titleKey != null) {
+                    dedupKeys.put(titleKey, entry);
+                }
+                added.add(entry.item());
+            }
+
+            while (sourceView.size() > PER_SOURCE_CAPACITY) {
+                remove(sourceView.pollLastEntry().getValue());
+            }
+            added.removeIf(item -> !bySequence.containsKey(item.sequence()));
+        }
+        return added;
+    }
+
+    /**
+     * 용량 초과로 항목이 제거될 때마다 ingest 잠금 안에서 호출 (가볍게 처리해야 함)
+     */
+    public void addEvictionListener(Consumer<NewsTimelineItem> listener) {
+        evictionListeners.add(listener);
+    }
+
+    private void remove(Entry entry) {
+        merged.remove(entry.key());
+        bySequence.remove(entry.key().sequence());
+        if (entry.linkKey() != null) {
+            dedupKeys.remove(entry.linkKey(), entry);
+        }
+        if (entry.titleKey() != null) {
+            dedupKeys.remove(entry.titleKey(), entry);
+        }
+        for (Consumer<NewsTimelineItem> listener : evictionListeners) {
+            listener.accept(entry.item());
+        }
+    }
+
+    /**
+     * 최신순 페이지 조회
+     * @param source null이면 전체 출처
+     * @param cursor 이전 페이지의 nextCursor (null이면 처음부터)
+     */
+    public NewsTimelineResponse page(String source, String cursor, int limit) {
+        NavigableMap<Key, Entry> view = source == null ? merged : bySource.get(source);
+        if (view == null) {
+            return new NewsTimelineResponse(List.of(), null, sequence.get());
+        }
+
+        Key after = parseCursor(cursor);
+        if (after != null) {
+            view = view.tailMap(after, false);
+        }
+
+        int size = clamp(limit);
+        List<NewsTimelineItem> items = new ArrayList<>(size);
+        Key last = null;
+        for (Entry entry : view.values()) {
+            if (items.size() == size) {
+                break;
+            }
+            items.add(entry.item());
+            last = entry.key();
+        }
+
+        String nextCursor = last != null && view.higherKey(last) != null ? formatCursor(last) : null;
+        return new NewsTimelineResponse(items, nextCursor, sequence.get());
+    }
+
+    /**
+     * sequence 이후 새로 들어온 항목 (유입 순서)
+     */
+    public NewsTimelineResponse since(long afterSequence, int limit) {
+        int size = clamp(limit);
+        List<NewsTimelineItem> items = new ArrayList<>(size);
+        for (Entry entry : bySequence.tailMap(afterSequence, false).values()) {
+            if (items.size() == size) {
+                break;
+            }
+            items.add(entry.item());
+        }
+        return new NewsTimelineResponse(items, null, sequence.get());
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> perSource = new LinkedHashMap<>();
+        bySource.forEach((source, view) -> perSource.put(source, view.size()));
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("items", merged.size());
+        status.put("perSourceCapacity", PER_SOURCE_CAPACITY);
+        status.put("sources", perSource);
+        status.put("duplicatesSkipped", duplicateCount.get());
+        status.put("latestSequence", sequence.get());
+        return status;
+    }
+
+    // ==================== Helpers ====================
+
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    private String formatCursor(Key key) {
+        return key.publishedAt().toEpochMilli() + "-" + key.sequence();
+    }
+
+    /**
+     * 잘못된 커서는 무시하고 처음부터 조회
+     */
+    private Key parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int dash = cursor.lastIndexOf('-');
+        if (dash <= 0) {
+            return null;
+        }
+        try {
+            return new Key(Instant.ofEpochMilli(Long.parseLong(cursor.substring(0, dash))),
+                    Long.parseLong(cursor.substring(dash + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 링크 정규화: 스킴/대소문자/www/fragment/추적 파라미터/끝 슬래시 차이 무시
+     */
+    static String canonicalLink(String link) {
+        if (link == null || link.isBlank()) {
+            return null;
+        }
+        try {
+            URI uri = URI.create(link.trim());
+            if (uri.getHost() == null) {
+                return "l:" + link.trim();
+            }
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            StringBuilder key = new StringBuilder("l:").append(host).append(path);
+            String query = uri.getRawQuery();
+            if (query != null) {
+                char separator = '?';
+                for (String param : query.split("&")) {
+                    if (param.isEmpty() || param.startsWith("utm_") || param.startsWith("ncid=")) {
+                        continue;
+                    }
+                    key.append(separator).append(param);
+                    separator = '&';
+                }
+            }
+            return key.toString();
+        } catch (IllegalArgumentException e) {
+            return "l:" + link.trim();
+        }
+    }
+
+    /**
+     * 제목 정규화: 대소문자/연속 공백 차이 무시
+     */
+    static String normalizeTitle(String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        return "t:" + title.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * RSS(RFC 1123) / Atom(ISO-8601) 날짜 파싱, 실패하거나 미래 시각이면 유입 시각
+     */
+    private Instant parsePublishedAt(String pubDate, Instant now) {
+        if (pubDate == null || pubDate.isBlank()) {
+            return now;
+        }
+        Instant parsed;
+        try {
+            parsed = ZonedDateTime.parse(pubDate.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            try {
+                parsed = OffsetDateTime.parse(pubDate.trim()).toInstant();
+            } catch (DateTimeParseException ignored) {
+                return now;
+            }
+        }
+        return parsed.isAfter(now) ? now : parsed;
+    }
+}
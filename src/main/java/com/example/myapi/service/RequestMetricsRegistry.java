@@ -0,0 +1,257 @@
+package com.example.myapi.service;
+
+import com.example.myapi.util.LatencyHistogram;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청/외부 의존성 지연 시간 지표
+ * - 라우트(메서드 + URL 패턴)와 외부 의존성(finnhub, openweather, rss, airkorea, gemini, mysql)별로
+ *   누적 / 직전 1분 히스토그램, 오류 수, 진행 중 요청 수를 잠금 없이 기록
+ * - 종류별 MAX_SERIES개까지만 만들고 넘치면 OTHER로 묶음 (라벨 폭증 방지)
+ * - JSON(getSnapshot)과 Prometheus text format(toPrometheus)으로 조회
+ */
+@Component
+public class RequestMetricsRegistry {
+
+    public static final String OTHER = "OTHER";
+    private static final int MAX_SERIES = 200;
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    public static final String FINNHUB = "finnhub";
+    public static final String OPENWEATHER = "openweather";
+    public static final String RSS = "rss";
+    public static final String AIRKOREA = "airkorea";
+    public static final String GEMINI = "gemini";
+    public static final String MYSQL = "mysql";
+
+    /**
+     * 1분 단위로 교체되는 구간 기록
+     */
+    private static final class Interval {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private static final class Series {
+        final String name;
+        final LatencyHistogram total = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final LongAdder clientErrors = new LongAdder();
+        final AtomicInteger inFlight = new AtomicInteger();
+        volatile Interval current = new Interval();
+        volatile Interval lastMinute = new Interval();
+
+        Series(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * 진행 중인 호출 (한 번만 종료 처리)
+     */
+    public static final class Call {
+        private final Series series;
+        private final long startedAt = System.nanoTime();
+        private boolean finished;
+
+        private Call(Series series) {
+            this.series = series;
+            series.inFlight.incrementAndGet();
+        }
+
+        /**
+         * @param error 실패 여부 (예외, 5xx 등)
+         */
+        public void end(boolean error) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            long micros = (System.nanoTime() - startedAt) / 1000;
+            series.inFlight.decrementAndGet();
+            series.total.record(micros);
+            Interval interval = series.current;
+            interval.histogram.record(micros);
+            if (error) {
+                series.errors.increment();
+                interval.errors.increment();
+            }
+        }
+
+        /**
+         * HTTP 상태 코드로 종료 (5xx는 오류, 4xx는 클라이언트 오류로 따로 집계)
+         */
+        public void end(int status) {
+            if (!finished && status >= 400 && status < 500) {
+                series.clientErrors.increment();
+            }
+            end(status >= 500);
+        }
+
+        /**
+         * 기록 없이 진행 중 수만 되돌림 (SSE 등 비동기로 넘어간 요청)
+         */
+        public void abandon() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            series.inFlight.decrementAndGet();
+        }
+    }
+
+    private final Map<String, Series> routes = new ConcurrentHashMap<>();
+    private final Map<String, Series> dependencies = new ConcurrentHashMap<>();
+    private final long startedAt = System.currentTimeMillis();
+
+    public Call startRoute(String route) {
+        return new Call(series(routes, route));
+    }
+
+    public Call startDependency(String dependency) {
+        return new Call(series(dependencies, dependency));
+    }
+
+    private Series series(Map<String, Series> map, String name) {
+        Series series = map.get(name);
+        if (series != null) {
+            return series;
+        }
+        String key = map.size() >= MAX_SERIES ? OTHER : name;
+        return map.computeIfAbsent(key, Series::new);
+    }
+
+    /**
+     * 직전 1분 구간 교체
+     */
+    @Scheduled(fixedRate = 60000, initialDelay = 60000)
+    public void rotate() {
+        for (Map<String, Series> map : List.of(routes, dependencies)) {
+            for (Series series : map.values()) {
+                Interval finished = series.current;
+                series.current = new Interval();
+                series.lastMinute = finished;
+            }
+        }
+    }
+
+    // ==================== JSON ====================
+
+    public Map<String, Object> getSnapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("uptimeSeconds", (System.currentTimeMillis() - startedAt) / 1000);
+        snapshot.put("routes", describe(routes));
+        snapshot.put("dependencies", describe(dependencies));
+        return snapshot;
+    }
+
+    private List<Map<String, Object>> describe(Map<String, Series> map) {
+        List<Series> sorted = new ArrayList<>(map.values());
+        sorted.sort(Comparator.comparingLong((Series s) -> s.total.count()).reversed());
+
+        List<Map<String, Object>> list = new ArrayList<>(sorted.size());
+        for (Series series : sorted) {
+            long count = series.total.count();
+            long errors = series.errors.sum();
+            Interval lastMinute = series.lastMinute;
+            long lastMinuteCount = lastMinute.histogram.count();
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", series.name);
+            entry.put("count", count);
+            entry.put("errors", errors);
+            entry.put("clientErrors", series.clientErrors.sum());
+            entry.put("errorRate", count == 0 ? 0.0 : (double) errors / count);
+            entry.put("inFlight", series.inFlight.get());
+            entry.put("throughputPerSecond", lastMinuteCount / 60.0);
+            entry.put("latencyMs", latency(series.total));
+            Map<String, Object> recent = latency(lastMinute.histogram);
+            recent.put("count", lastMinuteCount);
+            recent.put("errors", lastMinute.errors.sum());
+            entry.put("lastMinute", recent);
+            list.add(entry);
+        }
+        return list;
+    }
+
+    private Map<String, Object> latency(LatencyHistogram histogram) {
+        long count = histogram.count();
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("mean", count == 0 ? 0.0 : histogram.totalMicros() / 1000.0 / count);
+        for (double p : PERCENTILES) {
+            latency.put("p" + (int) p, histogram.percentile(p) / 1000.0);
+        }
+        latency.put("max", histogram.maxMicros() / 1000.0);
+        return latency;
+    }
+
+    // ==================== Prometheus ====================
+
+    /**
+     * Prometheus text exposition format (0.0.4)
+     * 분위수는 누적 히스토그램 기준 (summary)
+     */
+    public String toPrometheus() {
+        StringBuilder out = new StringBuilder(4096);
+        appendFamily(out, "myapi_http_server_requests", "route", routes,
+                "HTTP request latency by route");
+        appendFamily(out, "myapi_dependency_calls", "dependency", dependencies,
+                "Outbound dependency call latency");
+        return out.toString();
+    }
+
+    private void appendFamily(StringBuilder out, String prefix, String label, Map<String, Series> map, String help) {
+        List<Series> series = new ArrayList<>(map.values());
+        series.sort(Comparator.comparing(s -> s.name));
+
+        String seconds = prefix + "_seconds";
+        out.append("# HELP ").append(seconds).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(seconds).append(" summary\n");
+        for (Series s : series) {
+            String labels = label + "=\"" + escape(s.name) + "\"";
+            for (double p : PERCENTILES) {
+                out.append(seconds).append('{').append(labels)
+                        .append(",quantile=\"").append(p / 100).append("\"} ")
+                        .append(format(s.total.percentile(p) / 1_000_000.0)).append('\n');
+            }
+            out.append(seconds).append("_count{").append(labels).append("} ").append(s.total.count()).append('\n');
+            out.append(seconds).append("_sum{").append(labels).append("} ")
+                    .append(format(s.total.totalMicros() / 1_000_000.0)).append('\n');
+        }
+
+        String errors = prefix + "_errors_total";
+        out.append("# HELP ").append(errors).append(" Failed calls (exceptions and 5xx)\n");
+        out.append("# TYPE ").append(errors).append(" counter\n");
+        for (Series s : series) {
+            out.append(errors).append('{').append(label).append("=\"").append(escape(s.name)).append("\"} ")
+                    .append(s.errors.sum()).append('\n');
+        }
+
+        String inFlight = prefix + "_in_flight";
+        out.append("# HELP ").append(inFlight).append(" Calls currently in progress\n");
+        out.append("# TYPE ").append(inFlight).append(" gauge\n");
+        for (Series s : series) {
+            out.append(inFlight).append('{').append(label).append("=\"").append(escape(s.name)).append("\"} ")
+                    .append(s.inFlight.get()).append('\n');
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.6f", value);
+    }
+}
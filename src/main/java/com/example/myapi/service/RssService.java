@@ -1,51 +1,169 @@
 package com.example.myapi.service;
 
+import com.example.myapi.dto.rss.NewsTimelineItem;
 import com.example.myapi.dto.rss.RssFeedResponse;
 import com.example.myapi.dto.rss.RssItem;
+import com.example.myapi.util.RssFeedParser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * RSS Feed Service with 10-minute caching per URL
+ * RSS Feed Service with per-URL caching (stale-while-revalidate)
+ * - 캐시가 있으면 만료 여부와 관계없이 즉시 반환하고, 만료된 피드는 URL당 하나의 백그라운드 재검증만 실행
+ * - 재검증은 저장된 ETag / Last-Modified로 조건부 요청을 보내고, 304면 파싱 없이 TTL만 연장
+ * - 피드별 갱신 간격은 변경 빈도에 따라 조정 (바뀌면 절반, 그대로면 1.5배, MIN_INTERVAL ~ MAX_INTERVAL)
+ * - 최근 IDLE_AFTER 동안 조회되지 않은 피드는 백그라운드 갱신 대상에서 제외 (다음 조회 시 재검증)
+ * - 캐시 크기 제한: 항목 수(MAX_ENTRIES)와 추정 메모리(MAX_WEIGHT_BYTES)를 넘으면 가장 오래 조회되지 않은 피드부터 제거(LRU),
+ *   EXPIRE_AFTER_ACCESS 동안 조회되지 않은 피드도 제거
  */
 @Service
 public class RssService {
 
     private static final Logger log = LoggerFactory.getLogger(RssService.class);
     private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+    private static final Duration MIN_INTERVAL = Duration.ofMinutes(2);
+    private static final Duration MAX_INTERVAL = Duration.ofMinutes(30);
+    private static final Duration IDLE_AFTER = Duration.ofHours(1);
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(6);
+    private static final int MAX_ENTRIES = 500;
+    private static final long MAX_WEIGHT_BYTES = 32L * 1024 * 1024;
     private static final int MAX_ITEMS = 100;
     private static final int TIMEOUT_MS = 10000;
+    private static final int REFRESH_THREADS = 4;
 
-    // Cache: URL -> (response, fetchedAt)
+    // Cache: URL -> CachedFeed (크기/무게 제한은 store/evictIfNeeded에서 관리)
     private final Map<String, CachedFeed> cache = new ConcurrentHashMap<>();
+    private final AtomicLong totalWeight = new AtomicLong();
+
+    // 진행 중인 조회/재검증: URL -> 모든 대기자가 공유하는 future
+    private final Map<String, CompletableFuture<RssFeedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refreshPool;
+
+    /**
+     * 캐시된 피드
+     * validatedAt: 마지막으로 원본과 일치함을 확인한 시각
+     * etag, lastModified: 조건부 요청용 검증자 (서버가 주지 않았으면 null)
+     * interval: 변경 빈도로 조정되는 갱신 간격, nextRefreshAt: 다음 재검증 시각 (실패 시 MIN_INTERVAL 후)
+     */
+    private static final class CachedFeed {
+        private final RssFeedResponse response;
+        private final Instant validatedAt;
+        private final String etag;
+        private final String lastModified;
+        private final Duration interval;
+        private final Instant nextRefreshAt;
+        private final long weight;
+        private volatile Instant lastAccessedAt;
+
+        private CachedFeed(RssFeedResponse response, Instant validatedAt, String etag, String lastModified,
+                           Duration interval, Instant nextRefreshAt, Instant lastAccessedAt) {
+            this.response = response;
+            this.validatedAt = validatedAt;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.interval = interval;
+            this.nextRefreshAt = nextRefreshAt;
+            this.lastAccessedAt = lastAccessedAt;
+            this.weight = estimateWeight(response);
+        }
 
-    private record CachedFeed(RssFeedResponse response, Instant fetchedAt) {
         boolean isExpired() {
-            return Instant.now().isAfter(fetchedAt.plus(CACHE_TTL));
+            return !Instant.now().isBefore(nextRefreshAt);
         }
     }
 
+    /**
+     * 원본 조회 결과 (notModified면 items는 null)
+     */
+    private record FetchResult(boolean notModified, List<RssItem> items, String etag, String lastModified) {
+    }
+
+    private final AtomicLong notModifiedCount = new AtomicLong();
+
+    private final NewsTimelineIndex timelineIndex;
+    private final NewsSearchIndex searchIndex;
+    private final RequestMetricsRegistry metrics;
+    private final CacheMetricsRegistry.CacheMetrics cacheMetrics;
+
+    public RssService(NewsTimelineIndex timelineIndex, NewsSearchIndex searchIndex, RequestMetricsRegistry metrics,
+                      CacheMetricsRegistry cacheMetricsRegistry) {
+        this.timelineIndex = timelineIndex;
+        this.searchIndex = searchIndex;
+        this.metrics = metrics;
+        timelineIndex.addEvictionListener(item -> searchIndex.remove("rss:" + item.sequence()));
+        this.cacheMetrics = cacheMetricsRegistry.register("rss",
+                () -> cache.values().stream().map(feed -> feed.validatedAt).toList());
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.refreshPool = Executors.newFixedThreadPool(REFRESH_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "rss-refresh-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 대시보드 피드 미리 로드 (비동기, 시작을 막지 않음)
+     */
+    @PostConstruct
+    public void warmUp() {
+        load(YAHOO_MARKET, "Yahoo Finance Market", "yahoo");
+        load(YONHAP_ALL, "Yonhap All", "yonhap");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshPool.shutdownNow();
+    }
+
+    /**
+     * 30초마다 갱신 시점이 지난 피드를 백그라운드에서 재검증 (최근 조회된 피드만)
+     * 오래 조회되지 않은 피드는 제거
+     */
+    @Scheduled(fixedDelay = 30000, initialDelay = 30000)
+    public void refreshDueFeeds() {
+        Instant now = Instant.now();
+        Instant idleBefore = now.minus(IDLE_AFTER);
+        Instant expireBefore = now.minus(EXPIRE_AFTER_ACCESS);
+        cache.forEach((url, cached) -> {
+            if (cached.lastAccessedAt.isBefore(expireBefore)) {
+                if (remove(url, cached)) {
+                    log.debug("Expired idle RSS feed: {}", url);
+                }
+            } else if (cached.isExpired() && cached.lastAccessedAt.isAfter(idleBefore)) {
+                load(url, cached.response.feedTitle(), cached.response.source());
+            }
+        });
+    }
+
     // ==================== Public Feed URLs ====================
 
     public static final String YAHOO_MARKET = "https://finance.yahoo.com/news/rssindex";
     public static final String YAHOO_STOCK_FORMAT = "https://feeds.finance.yahoo.com/rss/2.0/headline?s=%s&region=US&lang=en-US";
 
+    // 연합뉴스TV는 분야별 피드가 없어 모두 같은 URL (캐시/타임라인에서 한 번만 저장됨)
     public static final String YONHAP_ALL = "https://www.yonhapnewstv.co.kr/browse/feed/";
     public static final String YONHAP_ECONOMY = "https://www.yonhapnewstv.co.kr/browse/feed/";
     public static final String YONHAP_POLITICS = "https://www.yonhapnewstv.co.kr/browse/feed/";
@@ -111,41 +229,120 @@ public class RssService {
      * Get cache status
      */
     public Map<String, Object> getCacheStatus() {
-        return Map.of(
-                "cachedFeeds", cache.size(),
-                "cacheTtlMinutes", CACHE_TTL.toMinutes(),
-                "cachedUrls", cache.keySet()
-        );
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("cachedFeeds", cache.size());
+        status.put("maxFeeds", MAX_ENTRIES);
+        status.put("weightBytes", totalWeight.get());
+        status.put("maxWeightBytes", MAX_WEIGHT_BYTES);
+        status.put("cacheTtlMinutes", CACHE_TTL.toMinutes());
+        status.put("hits", cacheMetrics.hits());
+        status.put("misses", cacheMetrics.misses());
+        status.put("hitRatio", cacheMetrics.hitRatio());
+        status.put("evictions", cacheMetrics.evictions());
+        status.put("loads", cacheMetrics.loads());
+        status.put("loadFailures", cacheMetrics.loadFailures());
+        status.put("averageLoadMillis", cacheMetrics.meanLoadMillis());
+        status.put("notModifiedResponses", notModifiedCount.get());
+        status.put("staleServed", cacheMetrics.staleHits());
+        status.put("refreshing", inFlight.size());
+        status.put("cachedUrls", cache.keySet());
+        status.put("timeline", timelineIndex.getStatus());
+        return status;
     }
 
     // ==================== Core Logic ====================
 
     /**
-     * Get feed with caching (10-minute TTL per URL)
+     * Get feed with caching
+     * 캐시가 있으면 바로 반환 (만료됐으면 백그라운드 재검증 시작), 없으면 조회 완료까지 대기
      */
     private RssFeedResponse getFeed(String url, String title, String source) {
         CachedFeed cached = cache.get(url);
 
-        // Return cache if valid
-        if (cached != null && !cached.isExpired()) {
-            log.debug("Cache hit for: {}", url);
-            return new RssFeedResponse(
-                    cached.response.feedUrl(),
-                    cached.response.feedTitle(),
-                    cached.response.source(),
-                    cached.response.itemCount(),
-                    cached.response.items(),
-                    cached.response.fetchedAt(),
-                    true  // fromCache = true
-            );
+        if (cached != null) {
+            cached.lastAccessedAt = Instant.now();
+            if (cached.isExpired()) {
+                log.debug("Serving stale cache while revalidating: {}", url);
+                cacheMetrics.staleHit();
+                load(url, title, source);
+            } else {
+                log.debug("Cache hit for: {}", url);
+                cacheMetrics.hit();
+            }
+            return fromCache(cached.response);
+        }
+
+        cacheMetrics.miss();
+        try {
+            return load(url, title, source).join();
+        } catch (CompletionException e) {
+            log.error("Failed to load RSS {}: {}", url, e.getMessage());
+            return new RssFeedResponse(url, title, source, 0, List.of(), Instant.now(), false);
+        }
+    }
+
+    /**
+     * URL당 하나의 조회/재검증만 실행 (동시에 요청한 쪽은 같은 future를 공유)
+     */
+    private CompletableFuture<RssFeedResponse> load(String url, String title, String source) {
+        CompletableFuture<RssFeedResponse> future = new CompletableFuture<>();
+        CompletableFuture<RssFeedResponse> existing = inFlight.putIfAbsent(url, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            refreshPool.execute(() -> {
+                try {
+                    future.complete(refresh(url, title, source));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(url, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(url, future);
+            future.completeExceptionally(e);
         }
+        return future;
+    }
+
+    /**
+     * 원본 조회 후 캐시 갱신 (캐시가 있으면 조건부 요청)
+     */
+    private RssFeedResponse refresh(String url, String title, String source) {
+        CachedFeed cached = cache.get(url);
+        Instant lastAccessedAt = cached != null ? cached.lastAccessedAt : Instant.now();
 
-        // Fetch new data
         log.info("Fetching RSS: {}", url);
+        long startedAt = System.nanoTime();
         try {
-            List<RssItem> items = fetchAndParse(url, source);
+            FetchResult result;
+            boolean loaded = false;
+            RequestMetricsRegistry.Call call = metrics.startDependency(RequestMetricsRegistry.RSS);
+            try {
+                result = fetchAndParse(url, source, cached);
+                loaded = true;
+            } finally {
+                call.end(!loaded);
+                cacheMetrics.recordLoad(System.nanoTime() - startedAt, loaded);
+            }
             Instant now = Instant.now();
 
+            if (result.notModified()) {
+                // 304: 본문 없음, 기존 항목으로 TTL 연장
+                log.debug("RSS not modified: {}", url);
+                notModifiedCount.incrementAndGet();
+                Duration interval = lengthen(cached.interval);
+                store(url, new CachedFeed(cached.response, now,
+                        result.etag() != null ? result.etag() : cached.etag,
+                        result.lastModified() != null ? result.lastModified() : cached.lastModified,
+                        interval, now.plus(interval), lastAccessedAt));
+                return fromCache(cached.response);
+            }
+
+            List<RssItem> items = result.items();
             RssFeedResponse response = new RssFeedResponse(
                     url,
                     title,
@@ -156,25 +353,31 @@ public class RssService {
                     false  // fromCache = false
             );
 
-            // Update cache
-            cache.put(url, new CachedFeed(response, now));
+            Duration interval;
+            if (cached == null) {
+                interval = CACHE_TTL;
+            } else if (sameLinks(cached.response.items(), items)) {
+                interval = lengthen(cached.interval);
+            } else {
+                interval = shorten(cached.interval);
+            }
+            store(url, new CachedFeed(response, now, result.etag(), result.lastModified(),
+                    interval, now.plus(interval), lastAccessedAt));
+            for (NewsTimelineItem added : timelineIndex.ingest(source, items)) {
+                searchIndex.upsert("rss:" + added.sequence(), "rss", added.title(), added.description(),
+                        added.link(), added.source(), added.publishedAt());
+            }
             return response;
 
         } catch (Exception e) {
             log.error("Failed to fetch RSS {}: {}", url, e.getMessage());
 
-            // Return stale cache if available
+            // 기존 캐시 유지, MIN_INTERVAL 후 재시도
             if (cached != null) {
-                log.warn("Returning stale cache for: {}", url);
-                return new RssFeedResponse(
-                        cached.response.feedUrl(),
-                        cached.response.feedTitle(),
-                        cached.response.source(),
-                        cached.response.itemCount(),
-                        cached.response.items(),
-                        cached.response.fetchedAt(),
-                        true
-                );
+                log.warn("Keeping stale cache for: {}", url);
+                store(url, new CachedFeed(cached.response, cached.validatedAt, cached.etag, cached.lastModified,
+                        cached.interval, Instant.now().plus(MIN_INTERVAL), lastAccessedAt));
+                return fromCache(cached.response);
             }
 
             // Return empty response
@@ -183,75 +386,123 @@ public class RssService {
     }
 
     /**
-     * Fetch and parse RSS XML
+     * 캐시 저장 후 제한 초과분 제거
      */
-    private List<RssItem> fetchAndParse(String urlStr, String source) throws Exception {
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setConnectTimeout(TIMEOUT_MS);
-        conn.setReadTimeout(TIMEOUT_MS);
-        conn.setRequestProperty("User-Agent", "Mozilla/5.0 MyAPI RSS Reader");
-
-        List<RssItem> items = new ArrayList<>();
+    private void store(String url, CachedFeed feed) {
+        CachedFeed previous = cache.put(url, feed);
+        totalWeight.addAndGet(feed.weight - (previous != null ? previous.weight : 0));
+        evictIfNeeded();
+    }
 
-        try (InputStream is = conn.getInputStream()) {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            // Disable external entities for security
-            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", false);
-            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+    private boolean remove(String url, CachedFeed feed) {
+        if (cache.remove(url, feed)) {
+            totalWeight.addAndGet(-feed.weight);
+            return true;
+        }
+        return false;
+    }
 
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(is);
+    /**
+     * 항목 수 또는 추정 메모리가 제한을 넘으면 가장 오래 조회되지 않은 피드부터 제거 (LRU)
+     */
+    private void evictIfNeeded() {
+        if (cache.size() <= MAX_ENTRIES && totalWeight.get() <= MAX_WEIGHT_BYTES) {
+            return;
+        }
 
-            // Try RSS 2.0 format (<item>)
-            NodeList itemNodes = doc.getElementsByTagName("item");
-            if (itemNodes.getLength() == 0) {
-                // Try Atom format (<entry>)
-                itemNodes = doc.getElementsByTagName("entry");
+        List<Map.Entry<String, CachedFeed>> byAccess = new ArrayList<>(cache.entrySet());
+        byAccess.sort(Comparator.comparing(entry -> entry.getValue().lastAccessedAt));
+        for (Map.Entry<String, CachedFeed> entry : byAccess) {
+            if (cache.size() <= MAX_ENTRIES && totalWeight.get() <= MAX_WEIGHT_BYTES) {
+                break;
+            }
+            if (remove(entry.getKey(), entry.getValue())) {
+                cacheMetrics.eviction();
+                log.debug("Evicted RSS feed {} ({} bytes)", entry.getKey(), entry.getValue().weight);
             }
+        }
+    }
 
-            for (int i = 0; i < Math.min(itemNodes.getLength(), MAX_ITEMS); i++) {
-                Element item = (Element) itemNodes.item(i);
-
-                String title = getElementText(item, "title");
-                String link = getElementText(item, "link");
-                if (link.isEmpty()) {
-                    // Atom format
-                    NodeList linkNodes = item.getElementsByTagName("link");
-                    if (linkNodes.getLength() > 0) {
-                        Element linkEl = (Element) linkNodes.item(0);
-                        link = linkEl.getAttribute("href");
-                    }
-                }
-                String description = getElementText(item, "description");
-                if (description.isEmpty()) {
-                    description = getElementText(item, "summary");
-                }
-                String pubDate = getElementText(item, "pubDate");
-                if (pubDate.isEmpty()) {
-                    pubDate = getElementText(item, "updated");
-                }
+    /**
+     * 캐시 항목의 대략적인 메모리 크기 (객체 헤더 + 문자열 UTF-16 기준)
+     */
+    private static long estimateWeight(RssFeedResponse response) {
+        long weight = 128 + stringWeight(response.feedUrl()) + stringWeight(response.feedTitle());
+        for (RssItem item : response.items()) {
+            weight += 32
+                    + stringWeight(item.title())
+                    + stringWeight(item.link())
+                    + stringWeight(item.description())
+                    + stringWeight(item.pubDate());
+        }
+        return weight;
+    }
 
-                // Clean HTML from description
-                description = description.replaceAll("<[^>]*>", "").trim();
-                if (description.length() > 200) {
-                    description = description.substring(0, 200) + "...";
-                }
+    private static long stringWeight(String value) {
+        return value == null ? 0 : 40 + 2L * value.length();
+    }
 
-                items.add(new RssItem(title, link, description, pubDate, source));
-            }
+    private RssFeedResponse fromCache(RssFeedResponse response) {
+        return new RssFeedResponse(
+                response.feedUrl(),
+                response.feedTitle(),
+                response.source(),
+                response.itemCount(),
+                response.items(),
+                response.fetchedAt(),
+                true  // fromCache = true
+        );
+    }
+
+    private boolean sameLinks(List<RssItem> before, List<RssItem> after) {
+        if (before.size() != after.size()) return false;
+        for (int i = 0; i < before.size(); i++) {
+            if (!before.get(i).link().equals(after.get(i).link())) return false;
         }
+        return true;
+    }
+
+    private Duration lengthen(Duration interval) {
+        Duration next = interval.multipliedBy(3).dividedBy(2);
+        return next.compareTo(MAX_INTERVAL) > 0 ? MAX_INTERVAL : next;
+    }
 
-        return items;
+    private Duration shorten(Duration interval) {
+        Duration next = interval.dividedBy(2);
+        return next.compareTo(MIN_INTERVAL) < 0 ? MIN_INTERVAL : next;
     }
 
-    private String getElementText(Element parent, String tagName) {
-        NodeList nodes = parent.getElementsByTagName(tagName);
-        if (nodes.getLength() > 0) {
-            return nodes.item(0).getTextContent().trim();
+    /**
+     * Fetch and parse RSS XML (스트리밍 파싱, MAX_ITEMS개까지만 읽음)
+     * cached가 있으면 If-None-Match / If-Modified-Since를 보내고, 304면 파싱하지 않음
+     */
+    private FetchResult fetchAndParse(String urlStr, String source, CachedFeed cached) throws Exception {
+        URL url = new URL(urlStr);
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        conn.setRequestMethod("GET");
+        conn.setConnectTimeout(TIMEOUT_MS);
+        conn.setReadTimeout(TIMEOUT_MS);
+        conn.setRequestProperty("User-Agent", "Mozilla/5.0 MyAPI RSS Reader");
+        if (cached != null) {
+            if (cached.etag != null) {
+                conn.setRequestProperty("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                conn.setRequestProperty("If-Modified-Since", cached.lastModified);
+            }
+        }
+
+        try {
+            if (cached != null && conn.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                return new FetchResult(true, null, conn.getHeaderField("ETag"), conn.getHeaderField("Last-Modified"));
+            }
+            try (InputStream is = conn.getInputStream()) {
+                List<RssItem> items = RssFeedParser.parse(is, source, MAX_ITEMS);
+                return new FetchResult(false, items, conn.getHeaderField("ETag"), conn.getHeaderField("Last-Modified"));
+            }
+        } finally {
+            // MAX_ITEMS에서 멈춘 경우 남은 본문을 읽지 않고 연결 종료
+            conn.disconnect();
         }
-        return "";
     }
 }
@@ -0,0 +1,229 @@
+package com.example.myapi.service;
+
+import com.example.myapi.config.SystemHistoryProperties;
+import com.example.myapi.dto.system.SystemHistoryPoint;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 시스템 히스토리 집계(rollup) 계층
+ * - 원본(system_history)은 RAW_RETENTION 동안만 보관
+ * - 1분 / 5분 / 1시간 구간별 min/max/avg를 system_history_rollup에 저장 (1분은 원본에서, 상위 계층은 바로 아래 계층에서)
+ * - JFR 지표는 일시정지/safepoint 최대는 MAX, 일시정지 합계/락 경합은 SUM, 할당률은 값이 있는 샘플 수로 가중 평균
+ * - 매분 마지막으로 집계한 구간부터 닫힌 구간까지 집계, 직전 구간은 늦게 저장된 샘플 반영을 위해 다시 계산 (INSERT OR REPLACE)
+ */
+@Service
+public class SystemHistoryRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(SystemHistoryRollupService.class);
+
+    public record Tier(String name, Duration bucket, Duration retention) {
+    }
+
+    public static final Tier MINUTE = new Tier("1m", Duration.ofMinutes(1), Duration.ofDays(7));
+    public static final Tier FIVE_MINUTES = new Tier("5m", Duration.ofMinutes(5), Duration.ofDays(30));
+    public static final Tier HOUR = new Tier("1h", Duration.ofHours(1), Duration.ofDays(365));
+    public static final Duration RAW_RETENTION = Duration.ofHours(24);
+
+    private static final String COLUMNS = "tier, bucket_start, samples, cpu_avg, cpu_min, cpu_max, "
+            + "memory_avg, memory_min, memory_max, heap_avg, heap_min, heap_max, "
+            + "memory_used, memory_total, heap_used, heap_max_bytes, thread_count, gc_count, gc_time, "
+            + "gc_pause_max_ms, gc_pause_total_ms, allocation_rate, allocation_samples, safepoint_max_ms, "
+            + "lock_contention_count";
+
+    // 처음 만든 뒤 추가된 컬럼 (기존 DB는 시작 시 ALTER TABLE로 추가)
+    private static final String[][] ADDED_COLUMNS = {
+            {"gc_pause_max_ms", "REAL"},
+            {"gc_pause_total_ms", "REAL"},
+            {"allocation_rate", "REAL"},
+            {"allocation_samples", "INTEGER"},
+            {"safepoint_max_ms", "REAL"},
+            {"lock_contention_count", "INTEGER"},
+    };
+
+    private static final String ROLLUP_FROM_RAW = "INSERT OR REPLACE INTO system_history_rollup (" + COLUMNS + ") "
+            + "SELECT ?, (timestamp / ?) * ?, COUNT(*), "
+            + "AVG(cpu_usage), MIN(cpu_usage), MAX(cpu_usage), "
+            + "AVG(memory_usage_percent), MIN(memory_usage_percent), MAX(memory_usage_percent), "
+            + "AVG(heap_usage_percent), MIN(heap_usage_percent), MAX(heap_usage_percent), "
+            + "CAST(AVG(memory_used) AS INTEGER), MAX(memory_total), CAST(AVG(heap_used) AS INTEGER), MAX(heap_max), "
+            + "CAST(ROUND(AVG(thread_count)) AS INTEGER), MAX(gc_count), MAX(gc_time), "
+            + "MAX(gc_pause_max_ms), SUM(gc_pause_total_ms), AVG(allocation_rate), COUNT(allocation_rate), "
+            + "MAX(safepoint_max_ms), SUM(lock_contention_count) "
+            + "FROM system_history WHERE timestamp >= ? AND timestamp < ? GROUP BY timestamp / ?";
+
+    // 평균은 하위 구간 샘플 수로 가중 (할당률은 값이 있던 샘플 수로)
+    private static final String ROLLUP_FROM_TIER = "INSERT OR REPLACE INTO system_history_rollup (" + COLUMNS + ") "
+            + "SELECT ?, (bucket_start / ?) * ?, SUM(samples), "
+            + "SUM(cpu_avg * samples) / SUM(samples), MIN(cpu_min), MAX(cpu_max), "
+            + "SUM(memory_avg * samples) / SUM(samples), MIN(memory_min), MAX(memory_max), "
+            + "SUM(heap_avg * samples) / SUM(samples), MIN(heap_min), MAX(heap_max), "
+            + "CAST(SUM(memory_used * samples) / SUM(samples) AS INTEGER), MAX(memory_total), "
+            + "CAST(SUM(heap_used * samples) / SUM(samples) AS INTEGER), MAX(heap_max_bytes), "
+            + "CAST(ROUND(SUM(thread_count * samples) * 1.0 / SUM(samples)) AS INTEGER), MAX(gc_count), MAX(gc_time), "
+            + "MAX(gc_pause_max_ms), SUM(gc_pause_total_ms), "
+            + "SUM(allocation_rate * allocation_samples) / NULLIF(SUM(allocation_samples), 0), "
+            + "COALESCE(SUM(allocation_samples), 0), MAX(safepoint_max_ms), SUM(lock_contention_count) "
+            + "FROM system_history_rollup WHERE tier = ? AND bucket_start >= ? AND bucket_start < ? "
+            + "GROUP BY bucket_start / ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SystemHistoryProperties properties;
+
+    public SystemHistoryRollupService(JdbcTemplate jdbcTemplate, SystemHistoryProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS system_history_rollup ("
+                + "tier TEXT NOT NULL, bucket_start INTEGER NOT NULL, samples INTEGER NOT NULL, "
+                + "cpu_avg REAL, cpu_min REAL, cpu_max REAL, "
+                + "memory_avg REAL, memory_min REAL, memory_max REAL, "
+                + "heap_avg REAL, heap_min REAL, heap_max REAL, "
+                + "memory_used INTEGER, memory_total INTEGER, heap_used INTEGER, heap_max_bytes INTEGER, "
+                + "thread_count INTEGER, gc_count INTEGER, gc_time INTEGER, "
+                + "gc_pause_max_ms REAL, gc_pause_total_ms REAL, allocation_rate REAL, allocation_samples INTEGER, "
+                + "safepoint_max_ms REAL, lock_contention_count INTEGER, "
+                + "PRIMARY KEY (tier, bucket_start))");
+
+        List<String> existing = jdbcTemplate.query("PRAGMA table_info(system_history_rollup)",
+                (rs, rowNum) -> rs.getString("name"));
+        for (String[] column : ADDED_COLUMNS) {
+            if (!existing.contains(column[0])) {
+                jdbcTemplate.execute("ALTER TABLE system_history_rollup ADD COLUMN " + column[0] + " " + column[1]);
+                log.info("Added system_history_rollup.{} column", column[0]);
+            }
+        }
+    }
+
+    /**
+     * 닫힌 구간 집계 (매분)
+     * 원본은 write-behind로 flushIntervalMs만큼 늦게 저장되므로 그만큼 지난 구간까지만 집계
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void rollup() {
+        try {
+            long cutoff = System.currentTimeMillis() - properties.getFlushIntervalMs() - 10_000;
+            long minuteEnd = rollup(MINUTE, null, cutoff);
+            long fiveMinuteEnd = rollup(FIVE_MINUTES, MINUTE, minuteEnd);
+            rollup(HOUR, FIVE_MINUTES, fiveMinuteEnd);
+        } catch (Exception e) {
+            log.warn("Failed to roll up system history: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param source null이면 원본 테이블
+     * @return 이번에 집계를 마친 구간의 끝 (상위 계층의 cutoff)
+     */
+    private long rollup(Tier tier, Tier source, long cutoff) {
+        long size = tier.bucket().toMillis();
+        long end = Math.floorDiv(cutoff, size) * size;
+
+        Long last = jdbcTemplate.queryForObject(
+                "SELECT MAX(bucket_start) FROM system_history_rollup WHERE tier = ?", Long.class, tier.name());
+        Long first;
+        if (last != null) {
+            // 직전 구간부터 다시 계산
+            first = last - size;
+        } else if (source == null) {
+            first = jdbcTemplate.queryForObject("SELECT MIN(timestamp) FROM system_history", Long.class);
+        } else {
+            first = jdbcTemplate.queryForObject(
+                    "SELECT MIN(bucket_start) FROM system_history_rollup WHERE tier = ?", Long.class, source.name());
+        }
+        if (first == null) {
+            return end;
+        }
+        long start = Math.floorDiv(first, size) * size;
+        if (start >= end) {
+            return end;
+        }
+
+        int rows = source == null
+                ? jdbcTemplate.update(ROLLUP_FROM_RAW, tier.name(), size, size, start, end, size)
+                : jdbcTemplate.update(ROLLUP_FROM_TIER, tier.name(), size, size, source.name(), start, end, size);
+        if (rows > 0) {
+            log.debug("Rolled up {} system history buckets into {}", rows, tier.name());
+        }
+        return end;
+    }
+
+    /**
+     * 계층별 보관 기간이 지난 데이터 삭제 (매시)
+     */
+    @Scheduled(cron = "0 5 * * * *")
+    public void cleanup() {
+        long now = System.currentTimeMillis();
+        int raw = jdbcTemplate.update("DELETE FROM system_history WHERE timestamp < ?",
+                now - RAW_RETENTION.toMillis());
+        int rollups = 0;
+        for (Tier tier : List.of(MINUTE, FIVE_MINUTES, HOUR)) {
+            rollups += jdbcTemplate.update("DELETE FROM system_history_rollup WHERE tier = ? AND bucket_start < ?",
+                    tier.name(), now - tier.retention().toMillis());
+        }
+        log.info("Cleaned up {} raw samples and {} rollup buckets", raw, rollups);
+    }
+
+    public List<SystemHistoryPoint> findRollup(Tier tier, Instant start, Instant end) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM system_history_rollup "
+                        + "WHERE tier = ? AND bucket_start >= ? AND bucket_start < ? ORDER BY bucket_start",
+                (rs, rowNum) -> toPoint(rs),
+                tier.name(), start.toEpochMilli(), end.toEpochMilli());
+    }
+
+    private SystemHistoryPoint toPoint(ResultSet rs) throws SQLException {
+        return new SystemHistoryPoint(
+                Instant.ofEpochMilli(rs.getLong("bucket_start")),
+                rs.getInt("samples"),
+                getDouble(rs, "cpu_avg"),
+                getDouble(rs, "cpu_min"),
+                getDouble(rs, "cpu_max"),
+                getDouble(rs, "memory_avg"),
+                getDouble(rs, "memory_min"),
+                getDouble(rs, "memory_max"),
+                getDouble(rs, "heap_avg"),
+                getDouble(rs, "heap_min"),
+                getDouble(rs, "heap_max"),
+                getLong(rs, "memory_used"),
+                getLong(rs, "memory_total"),
+                getLong(rs, "heap_used"),
+                getLong(rs, "heap_max_bytes"),
+                getInteger(rs, "thread_count"),
+                getLong(rs, "gc_count"),
+                getLong(rs, "gc_time"),
+                getDouble(rs, "gc_pause_max_ms"),
+                getDouble(rs, "gc_pause_total_ms"),
+                getDouble(rs, "allocation_rate"),
+                getDouble(rs, "safepoint_max_ms"),
+                getLong(rs, "lock_contention_count")
+        );
+    }
+
+    private Double getDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
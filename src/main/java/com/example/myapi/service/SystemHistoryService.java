@@ -1,105 +1,189 @@
 package com.example.myapi.service;
 
-import com.example.myapi.dto.system.SystemStatusResponse;
+import com.example.myapi.dto.system.JvmTelemetryWindow;
+import com.example.myapi.dto.system.SystemHistoryDto;
+import com.example.myapi.dto.system.SystemHistoryPoint;
+import com.example.myapi.dto.system.SystemHistorySeries;
 import com.example.myapi.entity.SystemHistory;
 import com.example.myapi.repository.SystemHistoryRepository;
+import com.example.myapi.util.SeriesDownsampler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * 시스템 히스토리 서비스
- * 1분 단위로 시스템 메트릭 수집 및 저장
+ * system-history.sample-interval-ms(기본 5초) 단위로 SystemMetricsRing의 최신 샘플을 저장, 저장은 SystemHistoryWriter가 일괄 처리
  */
 @Service
 public class SystemHistoryService {
 
     private static final Logger log = LoggerFactory.getLogger(SystemHistoryService.class);
+    private static final int MIN_POINTS = 10;
+    private static final int MAX_POINTS = 2000;
 
     private final SystemHistoryRepository historyRepository;
-    private final SystemStatusService systemStatusService;
+    private final SystemMetricsRing metricsRing;
+    private final SystemHistoryWriter historyWriter;
+    private final SystemHistoryRollupService rollupService;
+    private final JvmTelemetryService jvmTelemetryService;
 
     public SystemHistoryService(SystemHistoryRepository historyRepository,
-                                SystemStatusService systemStatusService) {
+                                SystemMetricsRing metricsRing,
+                                SystemHistoryWriter historyWriter,
+                                SystemHistoryRollupService rollupService,
+                                JvmTelemetryService jvmTelemetryService) {
         this.historyRepository = historyRepository;
-        this.systemStatusService = systemStatusService;
+        this.metricsRing = metricsRing;
+        this.historyWriter = historyWriter;
+        this.rollupService = rollupService;
+        this.jvmTelemetryService = jvmTelemetryService;
     }
 
     /**
-     * 시스템 메트릭 수집 (1분마다)
+     * 시스템 메트릭 수집 (기본 5초마다, DB에는 쓰지 않고 버퍼에 추가)
      */
-    @Scheduled(fixedRate = 60000)
-    @Transactional
+    @Scheduled(fixedRateString = "${system-history.sample-interval-ms:5000}")
     public void collectMetrics() {
         try {
-            SystemStatusResponse status = systemStatusService.getSystemStatus();
-            
+            SystemMetricsRing.Sample sample = metricsRing.latest();
+            if (sample == null) {
+                return;
+            }
+
             SystemHistory history = new SystemHistory();
-            history.setTimestamp(Instant.now());
-            history.setCpuUsage(status.systemCpuLoad());
-            history.setMemoryUsagePercent(status.memoryUsagePercent());
-            history.setMemoryUsed(status.usedPhysicalMemory());
-            history.setMemoryTotal(status.totalPhysicalMemory());
-            history.setHeapUsagePercent(status.heapUsagePercent());
-            history.setHeapUsed(status.heapUsed());
-            history.setHeapMax(status.heapMax());
-            history.setThreadCount(status.threadCount());
-            history.setGcCount(status.gcCount());
-            history.setGcTime(status.gcTime());
-            
-            historyRepository.save(history);
-            log.debug("System metrics collected");
+            history.setTimestamp(Instant.ofEpochMilli(sample.timestamp()));
+            history.setCpuUsage(sample.cpuUsage());
+            history.setMemoryUsagePercent(sample.memoryUsagePercent());
+            history.setMemoryUsed(sample.memoryUsed());
+            history.setMemoryTotal(sample.memoryTotal());
+            history.setHeapUsagePercent(sample.heapUsagePercent());
+            history.setHeapUsed(sample.heapUsed());
+            history.setHeapMax(sample.heapMax());
+            history.setThreadCount(sample.threadCount());
+            history.setGcCount(sample.gcCount());
+            history.setGcTime(sample.gcTime());
+
+            JvmTelemetryWindow telemetry = jvmTelemetryService.latest();
+            if (telemetry != null) {
+                history.setGcPauseMaxMs(telemetry.gcPauseMaxMs());
+                history.setGcPauseTotalMs(telemetry.gcPauseTotalMs());
+                history.setAllocationRate(telemetry.allocationRate());
+                history.setSafepointMaxMs(telemetry.safepointMaxMs());
+                history.setLockContentionCount(telemetry.lockContentionCount());
+            }
+
+            historyWriter.enqueue(history);
         } catch (Exception e) {
             log.error("Failed to collect system metrics: {}", e.getMessage());
         }
     }
 
     /**
-     * 기간별 히스토리 조회
+     * 기간별 히스토리 조회 (원본/집계 계층 자동 선택 후 maxPoints개 이하로 다운샘플링)
      */
-    public List<SystemHistory> getHistory(String period) {
-        Instant start = switch (period) {
-            case "1h" -> Instant.now().minus(1, ChronoUnit.HOURS);
-            case "24h" -> Instant.now().minus(24, ChronoUnit.HOURS);
-            case "7d" -> Instant.now().minus(7, ChronoUnit.DAYS);
-            default -> Instant.now().minus(1, ChronoUnit.HOURS);
+    public SystemHistorySeries getSeries(String period, int maxPoints) {
+        Duration range = switch (period) {
+            case "24h" -> Duration.ofHours(24);
+            case "7d" -> Duration.ofDays(7);
+            case "30d" -> Duration.ofDays(30);
+            default -> Duration.ofHours(1);
         };
-        
-        return historyRepository.findByTimestampAfterOrderByTimestampAsc(start);
+        Instant end = Instant.now();
+        Instant start = end.minus(range);
+        SystemHistorySeries series = getSeries(start, end, maxPoints);
+        return new SystemHistorySeries(period, series.tier(), series.bucketSeconds(), series.sourcePoints(), series.points());
     }
 
     /**
      * 시간 범위 지정 히스토리 조회
+     * 범위 2시간 이하 원본, 2일 이하 1분, 14일 이하 5분, 그 외 1시간 집계
      */
-    public List<SystemHistory> getHistory(Instant start, Instant end) {
-        return historyRepository.findByTimestampBetweenOrderByTimestampAsc(start, end);
+    public SystemHistorySeries getSeries(Instant start, Instant end, int maxPoints) {
+        Duration range = Duration.between(start, end);
+        int limit = Math.max(MIN_POINTS, Math.min(maxPoints, MAX_POINTS));
+
+        String tierName;
+        int bucketSeconds;
+        List<SystemHistoryPoint> points;
+        if (range.compareTo(Duration.ofHours(2)) <= 0) {
+            tierName = "raw";
+            bucketSeconds = 0;
+            points = historyRepository.findByTimestampBetweenOrderByTimestampAsc(start, end).stream()
+                    .map(this::toPoint)
+                    .toList();
+        } else {
+            SystemHistoryRollupService.Tier tier = range.compareTo(Duration.ofDays(2)) <= 0
+                    ? SystemHistoryRollupService.MINUTE
+                    : range.compareTo(Duration.ofDays(14)) <= 0
+                    ? SystemHistoryRollupService.FIVE_MINUTES
+                    : SystemHistoryRollupService.HOUR;
+            tierName = tier.name();
+            bucketSeconds = (int) tier.bucket().toSeconds();
+            points = rollupService.findRollup(tier, start, end);
+        }
+
+        return new SystemHistorySeries(null, tierName, bucketSeconds, points.size(),
+                SeriesDownsampler.lttb(points, limit));
     }
 
     /**
-     * 최근 N개 데이터 포인트 조회
+     * 최근 N개 샘플 조회
+     * 메모리 링 버퍼(1초 간격, 최근 1시간)에서 바로 반환, 시작 직후처럼 버퍼가 덜 찼으면 DB 원본(5초 간격)으로 대체
      */
-    public List<SystemHistory> getRecentHistory(int count) {
-        List<SystemHistory> all = historyRepository.findByTimestampAfterOrderByTimestampAsc(
-                Instant.now().minus(24, ChronoUnit.HOURS));
-        
-        if (all.size() <= count) return all;
-        return all.subList(all.size() - count, all.size());
+    public List<SystemHistoryDto> getRecentHistory(int count) {
+        int limit = Math.max(1, Math.min(count, MAX_POINTS));
+        List<SystemHistoryDto> recent = metricsRing.recent(limit, slot -> new SystemHistoryDto(
+                null,
+                Instant.ofEpochMilli(slot.timestamp()),
+                slot.cpuUsage(),
+                slot.memoryUsagePercent(),
+                slot.memoryUsed(),
+                slot.memoryTotal(),
+                slot.heapUsagePercent(),
+                slot.heapUsed(),
+                slot.heapMax(),
+                slot.threadCount(),
+                slot.gcCount(),
+                slot.gcTime()
+        ));
+        if (recent.size() >= Math.min(limit, SystemMetricsRing.CAPACITY - 1)) {
+            return recent;
+        }
+
+        List<SystemHistory> latest = new ArrayList<>(historyRepository.findByOrderByTimestampDesc(
+                PageRequest.of(0, limit)));
+        Collections.reverse(latest);
+        return latest.stream().map(SystemHistoryDto::from).toList();
     }
 
-    /**
-     * 오래된 히스토리 정리 (매일 자정)
-     */
-    @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
-    public void cleanupOldHistory() {
-        Instant cutoff = Instant.now().minus(7, ChronoUnit.DAYS);
-        historyRepository.deleteOlderThan(cutoff);
-        log.info("Cleaned up system history older than 7 days");
+    private SystemHistoryPoint toPoint(SystemHistory h) {
+        return new SystemHistoryPoint(
+                h.getTimestamp(),
+                1,
+                h.getCpuUsage(), h.getCpuUsage(), h.getCpuUsage(),
+                h.getMemoryUsagePercent(), h.getMemoryUsagePercent(), h.getMemoryUsagePercent(),
+                h.getHeapUsagePercent(), h.getHeapUsagePercent(), h.getHeapUsagePercent(),
+                h.getMemoryUsed(),
+                h.getMemoryTotal(),
+                h.getHeapUsed(),
+                h.getHeapMax(),
+                h.getThreadCount(),
+                h.getGcCount(),
+                h.getGcTime(),
+                h.getGcPauseMaxMs(),
+                h.getGcPauseTotalMs(),
+                h.getAllocationRate(),
+                h.getSafepointMaxMs(),
+                h.getLockContentionCount() != null ? h.getLockContentionCount().longValue() : null
+        );
     }
 }
@@ -0,0 +1,293 @@
+package com.example.myapi.service;
+
+import com.example.myapi.config.SystemHistoryProperties;
+import com.example.myapi.entity.SystemHistory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시스템 히스토리 write-behind 저장
+ * - 수집된 샘플은 메모리 큐에 쌓고 전용 스레드가 flushIntervalMs마다 JDBC 배치(한 트랜잭션)로 저장
+ * - 큐가 가득 차거나 DB 저장에 실패하면 spill 파일에 추가 기록 (append-only, 동기 쓰기)
+ * - spill 파일은 시작 시와 저장 성공 후 DB로 옮기고 삭제 (한 트랜잭션, 잠금 밖에서 저장)
+ */
+@Component
+public class SystemHistoryWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(SystemHistoryWriter.class);
+
+    // timestamp는 JPA(sqlite-jdbc)와 같은 epoch millis 정수로 저장
+    private static final String INSERT_SQL = "INSERT INTO system_history "
+            + "(timestamp, cpu_usage, memory_usage_percent, memory_used, memory_total, heap_usage_percent, "
+            + "heap_used, heap_max, thread_count, gc_count, gc_time, "
+            + "gc_pause_max_ms, gc_pause_total_ms, allocation_rate, safepoint_max_ms, lock_contention_count) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SystemHistoryProperties properties;
+    private final BlockingQueue<SystemHistory> queue;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final Object spillLock = new Object();
+    private final ScheduledExecutorService writer;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+
+    public SystemHistoryWriter(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               SystemHistoryProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.spillFile = Paths.get(properties.getSpillFile());
+        this.replayFile = Paths.get(properties.getSpillFile() + ".replay");
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "system-history-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.getFlushIntervalMs();
+        writer.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        writer.execute(this::replaySpill);
+    }
+
+    /**
+     * 종료 시 남은 샘플 저장 (실패하면 spill 파일로)
+     */
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * 샘플 추가 (호출 스레드는 DB를 기다리지 않음)
+     * 큐가 가득 차면 spill 파일에 바로 기록
+     */
+    public void enqueue(SystemHistory sample) {
+        if (!queue.offer(sample)) {
+            spill(List.of(sample));
+        }
+    }
+
+    /**
+     * 큐의 샘플을 batchSize 단위로 저장, 실패하면 남은 샘플 전부 spill
+     */
+    synchronized void flush() {
+        List<SystemHistory> batch = new ArrayList<>(properties.getBatchSize());
+        boolean written = false;
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            try {
+                insert(batch);
+                written = true;
+            } catch (Exception e) {
+                failedFlushCount.incrementAndGet();
+                log.warn("Failed to write {} system history samples, spilling to {}: {}",
+                        batch.size(), spillFile, e.getMessage());
+                queue.drainTo(batch);
+                spill(batch);
+                return;
+            }
+            batch.clear();
+        }
+        if (written) {
+            replaySpill();
+        }
+    }
+
+    private void insert(List<SystemHistory> samples) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, samples, properties.getBatchSize(), this::bind));
+        writtenCount.addAndGet(samples.size());
+    }
+
+    private void bind(PreparedStatement ps, SystemHistory sample) throws SQLException {
+        Instant timestamp = sample.getTimestamp() != null ? sample.getTimestamp() : Instant.now();
+        ps.setLong(1, timestamp.toEpochMilli());
+        setNullable(ps, 2, sample.getCpuUsage(), Types.DOUBLE);
+        setNullable(ps, 3, sample.getMemoryUsagePercent(), Types.DOUBLE);
+        setNullable(ps, 4, sample.getMemoryUsed(), Types.BIGINT);
+        setNullable(ps, 5, sample.getMemoryTotal(), Types.BIGINT);
+        setNullable(ps, 6, sample.getHeapUsagePercent(), Types.DOUBLE);
+        setNullable(ps, 7, sample.getHeapUsed(), Types.BIGINT);
+        setNullable(ps, 8, sample.getHeapMax(), Types.BIGINT);
+        setNullable(ps, 9, sample.getThreadCount(), Types.INTEGER);
+        setNullable(ps, 10, sample.getGcCount(), Types.BIGINT);
+        setNullable(ps, 11, sample.getGcTime(), Types.BIGINT);
+        setNullable(ps, 12, sample.getGcPauseMaxMs(), Types.DOUBLE);
+        setNullable(ps, 13, sample.getGcPauseTotalMs(), Types.DOUBLE);
+        setNullable(ps, 14, sample.getAllocationRate(), Types.DOUBLE);
+        setNullable(ps, 15, sample.getSafepointMaxMs(), Types.DOUBLE);
+        setNullable(ps, 16, sample.getLockContentionCount(), Types.INTEGER);
+    }
+
+    private void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value, sqlType);
+        }
+    }
+
+    // ==================== Spill File ====================
+
+    private void spill(List<SystemHistory> samples) {
+        StringBuilder lines = new StringBuilder();
+        for (SystemHistory sample : samples) {
+            lines.append(toLine(sample)).append('\n');
+        }
+        synchronized (spillLock) {
+            try {
+                Path dir = spillFile.toAbsolutePath().getParent();
+                if (dir != null) {
+                    Files.createDirectories(dir);
+                }
+                Files.write(spillFile, lines.toString().getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+                spilledCount.addAndGet(samples.size());
+            } catch (IOException e) {
+                log.error("Failed to spill {} system history samples: {}", samples.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * spill 파일의 샘플을 DB로 옮긴 뒤 삭제
+     * - spill 파일은 잠금 안에서 replay 파일로 옮기고 읽기만 함 (저장은 잠금 밖, 그동안 새 spill은 새 파일에 기록)
+     * - 전체를 한 트랜잭션으로 저장하므로 실패하면 아무것도 저장되지 않고 replay 파일을 남겨 다음에 재시도
+     */
+    private synchronized void replaySpill() {
+        List<SystemHistory> samples;
+        synchronized (spillLock) {
+            try {
+                if (!Files.exists(replayFile)) {
+                    if (!Files.exists(spillFile)) {
+                        return;
+                    }
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+                samples = new ArrayList<>();
+                for (String line : Files.readAllLines(replayFile, StandardCharsets.UTF_8)) {
+                    SystemHistory sample = fromLine(line);
+                    if (sample != null) {
+                        samples.add(sample);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Failed to read system history spill file: {}", e.getMessage());
+                return;
+            }
+        }
+        try {
+            if (!samples.isEmpty()) {
+                insert(samples);
+            }
+            Files.delete(replayFile);
+            if (!samples.isEmpty()) {
+                log.info("Replayed {} spilled system history samples", samples.size());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to replay system history spill file: {}", e.getMessage());
+        }
+    }
+
+    private String toLine(SystemHistory s) {
+        Instant timestamp = s.getTimestamp() != null ? s.getTimestamp() : Instant.now();
+        return String.join(",",
+                String.valueOf(timestamp.toEpochMilli()),
+                str(s.getCpuUsage()), str(s.getMemoryUsagePercent()), str(s.getMemoryUsed()),
+                str(s.getMemoryTotal()), str(s.getHeapUsagePercent()), str(s.getHeapUsed()),
+                str(s.getHeapMax()), str(s.getThreadCount()), str(s.getGcCount()), str(s.getGcTime()),
+                str(s.getGcPauseMaxMs()), str(s.getGcPauseTotalMs()), str(s.getAllocationRate()),
+                str(s.getSafepointMaxMs()), str(s.getLockContentionCount()));
+    }
+
+    private SystemHistory fromLine(String line) {
+        String[] f = line.split(",", -1);
+        if (f.length != 11 && f.length != 16) {
+            // 기록 중 중단된 마지막 줄 등 (11개 필드는 JFR 항목 추가 전 형식)
+            return null;
+        }
+        try {
+            SystemHistory s = new SystemHistory();
+            s.setTimestamp(Instant.ofEpochMilli(Long.parseLong(f[0])));
+            s.setCpuUsage(f[1].isEmpty() ? null : Double.valueOf(f[1]));
+            s.setMemoryUsagePercent(f[2].isEmpty() ? null : Double.valueOf(f[2]));
+            s.setMemoryUsed(f[3].isEmpty() ? null : Long.valueOf(f[3]));
+            s.setMemoryTotal(f[4].isEmpty() ? null : Long.valueOf(f[4]));
+            s.setHeapUsagePercent(f[5].isEmpty() ? null : Double.valueOf(f[5]));
+            s.setHeapUsed(f[6].isEmpty() ? null : Long.valueOf(f[6]));
+            s.setHeapMax(f[7].isEmpty() ? null : Long.valueOf(f[7]));
+            s.setThreadCount(f[8].isEmpty() ? null : Integer.valueOf(f[8]));
+            s.setGcCount(f[9].isEmpty() ? null : Long.valueOf(f[9]));
+            s.setGcTime(f[10].isEmpty() ? null : Long.valueOf(f[10]));
+            if (f.length == 16) {
+                s.setGcPauseMaxMs(f[11].isEmpty() ? null : Double.valueOf(f[11]));
+                s.setGcPauseTotalMs(f[12].isEmpty() ? null : Double.valueOf(f[12]));
+                s.setAllocationRate(f[13].isEmpty() ? null : Double.valueOf(f[13]));
+                s.setSafepointMaxMs(f[14].isEmpty() ? null : Double.valueOf(f[14]));
+                s.setLockContentionCount(f[15].isEmpty() ? null : Integer.valueOf(f[15]));
+            }
+            return s;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String str(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    public Map<String, Object> getStatus() {
+        return Map.of(
+                "queued", queue.size(),
+                "queueCapacity", properties.getQueueCapacity(),
+                "written", writtenCount.get(),
+                "spilled", spilledCount.get(),
+                "failedFlushes", failedFlushCount.get(),
+                "spillPending", Files.exists(spillFile) || Files.exists(replayFile)
+        );
+    }
+}
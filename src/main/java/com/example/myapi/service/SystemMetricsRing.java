@@ -0,0 +1,311 @@
+package com.example.myapi.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 실시간 시스템 메트릭 링 버퍼
+ * - 전용 스레드 하나가 SAMPLE_INTERVAL_MS마다 MXBean을 읽어 고정 크기 기본형 배열(지표별 배열)에 기록
+ * - 쓰기는 슬롯을 채운 뒤 volatile 커서(published)를 올리는 단일 writer, 읽기는 잠금 없이 슬롯에서 바로 변환
+ * - 읽는 도중 writer가 한 바퀴 돌아 덮어쓴 슬롯은 읽은 후 커서를 다시 확인해 제외
+ * - 대시보드 브로드캐스트, 히스토리 수집, /api/system/history/recent가 모두 이 샘플을 공유
+ */
+@Component
+public class SystemMetricsRing {
+
+    private static final Logger log = LoggerFactory.getLogger(SystemMetricsRing.class);
+
+    public static final long SAMPLE_INTERVAL_MS = 1000;
+    // 1초 간격 1시간
+    public static final int CAPACITY = 3600;
+
+    /**
+     * 단일 샘플 (latest 조회용)
+     */
+    public record Sample(long timestamp, double cpuUsage, double memoryUsagePercent, long memoryUsed,
+                         long memoryTotal, double heapUsagePercent, long heapUsed, long heapMax,
+                         int threadCount, long gcCount, long gcTime, long uptimeMillis) {
+    }
+
+    /**
+     * recent 변환 함수에 넘기는 슬롯 뷰 (호출마다 같은 객체가 다음 슬롯을 가리키므로 보관하지 말 것)
+     */
+    public interface SlotView {
+        long timestamp();
+
+        double cpuUsage();
+
+        double memoryUsagePercent();
+
+        long memoryUsed();
+
+        long memoryTotal();
+
+        double heapUsagePercent();
+
+        long heapUsed();
+
+        long heapMax();
+
+        int threadCount();
+
+        long gcCount();
+
+        long gcTime();
+    }
+
+    private final long[] timestamps = new long[CAPACITY];
+    private final double[] cpuUsage = new double[CAPACITY];
+    private final double[] memoryUsagePercent = new double[CAPACITY];
+    private final long[] memoryUsed = new long[CAPACITY];
+    private final long[] memoryTotal = new long[CAPACITY];
+    private final double[] heapUsagePercent = new double[CAPACITY];
+    private final long[] heapUsed = new long[CAPACITY];
+    private final long[] heapMax = new long[CAPACITY];
+    private final int[] threadCount = new int[CAPACITY];
+    private final long[] gcCount = new long[CAPACITY];
+    private final long[] gcTime = new long[CAPACITY];
+
+    // 지금까지 기록을 마친 샘플 수 (다음에 쓸 sequence), sampler 스레드만 증가
+    private volatile long published;
+
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final OperatingSystemMXBean osMXBean = ManagementFactory.getOperatingSystemMXBean();
+    private final List<GarbageCollectorMXBean> gcMXBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private final long startTime = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private final ScheduledExecutorService sampler;
+    private final List<Consumer<Sample>> listeners = new CopyOnWriteArrayList<>();
+
+    public SystemMetricsRing() {
+        this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "system-metrics-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        // 첫 샘플은 바로 기록해 시작 직후 조회도 빈 값이 되지 않게 함
+        sample();
+        sampler.scheduleAtFixedRate(this::sample, SAMPLE_INTERVAL_MS, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sampler.shutdownNow();
+    }
+
+    /**
+     * 샘플 기록 (sampler 스레드 전용, 시작 시 첫 호출은 스케줄 전이라 경합 없음)
+     */
+    private void sample() {
+        try {
+            double cpu = -1;
+            long total = 0;
+            long free = 0;
+            if (osMXBean instanceof com.sun.management.OperatingSystemMXBean sunOsMXBean) {
+                cpu = sunOsMXBean.getCpuLoad() * 100;
+                total = sunOsMXBean.getTotalMemorySize();
+                free = sunOsMXBean.getFreeMemorySize();
+            }
+            MemoryUsage heap = memoryMXBean.getHeapMemoryUsage();
+            long gcCountSum = 0;
+            long gcTimeSum = 0;
+            for (GarbageCollectorMXBean gc : gcMXBeans) {
+                gcCountSum += gc.getCollectionCount();
+                gcTimeSum += gc.getCollectionTime();
+            }
+
+            record(System.currentTimeMillis(), cpu, total, total - free, heap.getUsed(), heap.getMax(),
+                    threadMXBean.getThreadCount(), gcCountSum, gcTimeSum);
+        } catch (Exception e) {
+            log.warn("Failed to sample system metrics: {}", e.getMessage());
+            return;
+        }
+        notifyListeners();
+    }
+
+    /**
+     * 다음 슬롯에 기록 후 공개 (단일 writer 전용)
+     */
+    void record(long timestamp, double cpu, long memTotal, long memUsed, long hUsed, long hMax,
+                int threads, long gcCountSum, long gcTimeSum) {
+        long seq = published;
+        int i = (int) (seq % CAPACITY);
+        timestamps[i] = timestamp;
+        cpuUsage[i] = cpu;
+        memoryTotal[i] = memTotal;
+        memoryUsed[i] = memUsed;
+        memoryUsagePercent[i] = memTotal > 0 ? (double) memUsed / memTotal * 100 : 0;
+        heapMax[i] = hMax;
+        heapUsed[i] = hUsed;
+        heapUsagePercent[i] = hMax > 0 ? (double) hUsed / hMax * 100 : 0;
+        threadCount[i] = threads;
+        gcCount[i] = gcCountSum;
+        gcTime[i] = gcTimeSum;
+        // volatile 쓰기로 위 슬롯 값을 읽는 쪽에 공개
+        published = seq + 1;
+    }
+
+    /**
+     * 새 샘플이 기록될 때마다 sampler 스레드에서 호출 (가볍게 처리해야 함)
+     */
+    public void addListener(Consumer<Sample> listener) {
+        listeners.add(listener);
+    }
+
+    private void notifyListeners() {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Sample sample = latest();
+        for (Consumer<Sample> listener : listeners) {
+            try {
+                listener.accept(sample);
+            } catch (Exception e) {
+                log.warn("System metrics listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 가장 최근 샘플 (아직 없으면 null)
+     */
+    public Sample latest() {
+        while (true) {
+            long end = published;
+            if (end == 0) {
+                return null;
+            }
+            int i = (int) ((end - 1) % CAPACITY);
+            Sample sample = new Sample(timestamps[i], cpuUsage[i], memoryUsagePercent[i], memoryUsed[i],
+                    memoryTotal[i], heapUsagePercent[i], heapUsed[i], heapMax[i], threadCount[i],
+                    gcCount[i], gcTime[i], timestamps[i] - startTime);
+            // 읽는 동안 한 바퀴 돌아 덮어쓰이지 않았으면 유효
+            if (published - (end - 1) < CAPACITY) {
+                return sample;
+            }
+        }
+    }
+
+    /**
+     * 최근 count개 샘플을 오래된 순으로 변환 (버퍼에 있는 만큼만, 중간 배열 없이 슬롯에서 바로 읽음)
+     */
+    public <T> List<T> recent(int count, Function<SlotView, T> mapper) {
+        long end = published;
+        int n = (int) Math.min(Math.max(count, 0), Math.min(end, CAPACITY));
+        long start = end - n;
+
+        List<T> result = new ArrayList<>(n);
+        Cursor cursor = new Cursor();
+        for (long seq = start; seq < end; seq++) {
+            cursor.slot = (int) (seq % CAPACITY);
+            result.add(mapper.apply(cursor));
+        }
+
+        // 읽는 중 writer가 다음 sequence(published)를 쓰고 있었을 수 있으므로
+        // sequence <= published - CAPACITY 인 슬롯은 덮어쓰였을 수 있어 앞에서 제외
+        long firstValid = Math.max(start, published - CAPACITY + 1);
+        int skip = (int) Math.min(n, firstValid - start);
+        if (skip > 0) {
+            result.subList(0, skip).clear();
+        }
+        return result;
+    }
+
+    private final class Cursor implements SlotView {
+        private int slot;
+
+        @Override
+        public long timestamp() {
+            return timestamps[slot];
+        }
+
+        @Override
+        public double cpuUsage() {
+            return cpuUsage[slot];
+        }
+
+        @Override
+        public double memoryUsagePercent() {
+            return memoryUsagePercent[slot];
+        }
+
+        @Override
+        public long memoryUsed() {
+            return memoryUsed[slot];
+        }
+
+        @Override
+        public long memoryTotal() {
+            return memoryTotal[slot];
+        }
+
+        @Override
+        public double heapUsagePercent() {
+            return heapUsagePercent[slot];
+        }
+
+        @Override
+        public long heapUsed() {
+            return heapUsed[slot];
+        }
+
+        @Override
+        public long heapMax() {
+            return heapMax[slot];
+        }
+
+        @Override
+        public int threadCount() {
+            return threadCount[slot];
+        }
+
+        @Override
+        public long gcCount() {
+            return gcCount[slot];
+        }
+
+        @Override
+        public long gcTime() {
+            return gcTime[slot];
+        }
+    }
+
+    public int size() {
+        return (int) Math.min(published, CAPACITY);
+    }
+
+    public Map<String, Object> getStatus() {
+        long total = published;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("samples", (int) Math.min(total, CAPACITY));
+        status.put("capacity", CAPACITY);
+        status.put("sampleIntervalMs", SAMPLE_INTERVAL_MS);
+        status.put("totalSamples", total);
+        return status;
+    }
+}
@@ -2,6 +2,10 @@ package com.example.myapi.service;
 
 import com.example.myapi.dto.system.SystemStatusResponse;
 import com.example.myapi.dto.system.SystemStatusResponse.DiskInfo;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
@@ -13,18 +17,69 @@ import java.util.Map;
 
 /**
  * 서버 시스템 상태 모니터링 서비스
+ * 조회 비용과 변화 빈도에 따라 계층별로 따로 갱신하고, 조합한 불변 응답을 캐시해 조회 시 다시 계산하지 않음
+ * - static: 호스트명, OS, 아키텍처, 프로세서 수 (시작 시 1회)
+ * - slow: 디스크 사용량, 로드된 클래스 수 (1분마다)
+ * - fast: CPU, 메모리, 힙, GC, 스레드 (SystemMetricsRing 샘플마다, 1초)
  */
 @Service
 public class SystemStatusService {
 
+    private static final Logger log = LoggerFactory.getLogger(SystemStatusService.class);
+
+    private record StaticTier(String hostname, String os, String arch, int processors) {
+    }
+
+    private record SlowTier(Map<String, DiskInfo> disks, int loadedClassCount) {
+    }
+
     private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
     private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
-    private final RuntimeMXBean runtimeMXBean = ManagementFactory.getRuntimeMXBean();
     private final ClassLoadingMXBean classLoadingMXBean = ManagementFactory.getClassLoadingMXBean();
     private final OperatingSystemMXBean osMXBean = ManagementFactory.getOperatingSystemMXBean();
 
+    private final SystemMetricsRing metricsRing;
+
+    private StaticTier staticTier;
+    private volatile SlowTier slowTier;
+    private volatile SystemStatusResponse cached;
+
+    public SystemStatusService(SystemMetricsRing metricsRing) {
+        this.metricsRing = metricsRing;
+    }
+
+    @PostConstruct
+    public void init() {
+        staticTier = probeStatic();
+        slowTier = probeSlow();
+        rebuild(metricsRing.latest());
+        metricsRing.addListener(this::rebuild);
+    }
+
+    /**
+     * 캐시된 상태 반환 (최대 1초 전 값, 디스크는 최대 1분 전 값)
+     */
     public SystemStatusResponse getSystemStatus() {
-        // 호스트명
+        SystemStatusResponse status = cached;
+        if (status == null) {
+            rebuild(metricsRing.latest());
+            status = cached;
+        }
+        return status;
+    }
+
+    @Scheduled(fixedRate = 60000, initialDelay = 60000)
+    public void refreshSlowTier() {
+        try {
+            slowTier = probeSlow();
+            rebuild(metricsRing.latest());
+        } catch (Exception e) {
+            log.warn("Failed to refresh disk status: {}", e.getMessage());
+        }
+    }
+
+    private StaticTier probeStatic() {
+        // 호스트명 (DNS 조회가 느릴 수 있어 시작 시 한 번만)
         String hostname;
         try {
             hostname = InetAddress.getLocalHost().getHostName();
@@ -33,40 +88,15 @@ public class SystemStatusService {
         }
 
         // OS 정보
-        String os = osMXBean.getName() + " " + osMXBean.getVersion();
-        String arch = osMXBean.getArch();
-        int processors = osMXBean.getAvailableProcessors();
-
-        // CPU 로드 (com.sun.management 사용)
-        double systemCpuLoad = -1;
-        double processCpuLoad = -1;
-        if (osMXBean instanceof com.sun.management.OperatingSystemMXBean sunOsMXBean) {
-            systemCpuLoad = sunOsMXBean.getCpuLoad() * 100;
-            processCpuLoad = sunOsMXBean.getProcessCpuLoad() * 100;
-        }
-
-        // 물리 메모리
-        long totalPhysicalMemory = 0;
-        long freePhysicalMemory = 0;
-        if (osMXBean instanceof com.sun.management.OperatingSystemMXBean sunOsMXBean) {
-            totalPhysicalMemory = sunOsMXBean.getTotalMemorySize();
-            freePhysicalMemory = sunOsMXBean.getFreeMemorySize();
-        }
-        long usedPhysicalMemory = totalPhysicalMemory - freePhysicalMemory;
-        double memoryUsagePercent = totalPhysicalMemory > 0 
-                ? (double) usedPhysicalMemory / totalPhysicalMemory * 100 : 0;
-
-        // JVM Heap
-        MemoryUsage heapUsage = memoryMXBean.getHeapMemoryUsage();
-        long heapMax = heapUsage.getMax();
-        long heapUsed = heapUsage.getUsed();
-        long heapFree = heapMax - heapUsed;
-        double heapUsagePercent = heapMax > 0 ? (double) heapUsed / heapMax * 100 : 0;
-
-        // JVM Non-Heap
-        MemoryUsage nonHeapUsage = memoryMXBean.getNonHeapMemoryUsage();
-        long nonHeapUsed = nonHeapUsage.getUsed();
+        return new StaticTier(
+                hostname,
+                osMXBean.getName() + " " + osMXBean.getVersion(),
+                osMXBean.getArch(),
+                osMXBean.getAvailableProcessors()
+        );
+    }
 
+    private SlowTier probeSlow() {
         // 디스크 정보
         Map<String, DiskInfo> disks = new HashMap<>();
         for (File root : File.listRoots()) {
@@ -83,48 +113,53 @@ public class SystemStatusService {
             ));
         }
 
-        // GC 정보
-        long gcCount = 0;
-        long gcTime = 0;
-        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
-            gcCount += gc.getCollectionCount();
-            gcTime += gc.getCollectionTime();
+        // 클래스 로딩
+        return new SlowTier(Map.copyOf(disks), classLoadingMXBean.getLoadedClassCount());
+    }
+
+    /**
+     * fast 계층 샘플과 static/slow 계층을 조합해 캐시 교체
+     * sampler 스레드와 slow 갱신이 겹쳐도 마지막 조합이 두 계층의 최신 값을 쓰도록 동기화
+     */
+    private synchronized void rebuild(SystemMetricsRing.Sample sample) {
+        if (sample == null) {
+            return;
         }
 
-        // 스레드
-        int threadCount = threadMXBean.getThreadCount();
+        // 링 버퍼에 없는 가벼운 항목은 여기서 함께 조회
+        double processCpuLoad = -1;
+        if (osMXBean instanceof com.sun.management.OperatingSystemMXBean sunOsMXBean) {
+            processCpuLoad = sunOsMXBean.getProcessCpuLoad() * 100;
+        }
+        long nonHeapUsed = memoryMXBean.getNonHeapMemoryUsage().getUsed();
         int peakThreadCount = threadMXBean.getPeakThreadCount();
 
-        // 클래스 로딩
-        int loadedClassCount = classLoadingMXBean.getLoadedClassCount();
-
-        // Uptime
-        long uptimeMillis = runtimeMXBean.getUptime();
-
-        return new SystemStatusResponse(
-                hostname,
-                os,
-                arch,
-                processors,
-                Instant.now(),
-                uptimeMillis,
-                systemCpuLoad,
+        StaticTier s = staticTier;
+        SlowTier slow = slowTier;
+        cached = new SystemStatusResponse(
+                s.hostname(),
+                s.os(),
+                s.arch(),
+                s.processors(),
+                Instant.ofEpochMilli(sample.timestamp()),
+                sample.uptimeMillis(),
+                sample.cpuUsage(),
                 processCpuLoad,
-                totalPhysicalMemory,
-                freePhysicalMemory,
-                usedPhysicalMemory,
-                memoryUsagePercent,
-                heapMax,
-                heapUsed,
-                heapFree,
-                heapUsagePercent,
+                sample.memoryTotal(),
+                sample.memoryTotal() - sample.memoryUsed(),
+                sample.memoryUsed(),
+                sample.memoryUsagePercent(),
+                sample.heapMax(),
+                sample.heapUsed(),
+                sample.heapMax() - sample.heapUsed(),
+                sample.heapUsagePercent(),
                 nonHeapUsed,
-                disks,
-                gcCount,
-                gcTime,
-                threadCount,
+                slow.disks(),
+                sample.gcCount(),
+                sample.gcTime(),
+                sample.threadCount(),
                 peakThreadCount,
-                loadedClassCount
+                slow.loadedClassCount()
         );
     }
 }
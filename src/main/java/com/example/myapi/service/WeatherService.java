@@ -5,6 +5,7 @@ import com.example.myapi.dto.weather.City;
 import com.example.myapi.dto.weather.CityWeatherResponse;
 import com.example.myapi.dto.weather.OpenWeatherResponse;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.*;
@@ -15,12 +16,21 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Weather service that caches weather data for major cities.
  * Auto-refreshes every 1 minute via scheduler.
  * User requests only return cached data.
+ *
+ * 갱신은 전용 스레드 풀에서 도시별로 병렬 조회 (동시 조회 수는 refresh-concurrency로 제한)하며,
+ * 호출 스레드(시작 시 초기화, 스케줄러)는 기다리지 않음.
+ * 첫 갱신이 끝나기 전까지는 warming 상태로, 그때까지 캐시된 도시만 반환.
  */
 @Service
 public class WeatherService {
@@ -28,24 +38,46 @@ public class WeatherService {
     private static final Logger log = LoggerFactory.getLogger(WeatherService.class);
 
     private final RestTemplate restTemplate;
+    private final RequestMetricsRegistry metrics;
+    private final CacheMetricsRegistry.CacheMetrics cacheMetrics;
     private final OpenWeatherProperties properties;
+    private final CityCatalog cityCatalog;
     private final Map<String, CityWeatherResponse> weatherCache = new ConcurrentHashMap<>();
-    private Instant lastUpdated = null;
+    private final ExecutorService refreshPool;
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
+    private volatile boolean warming = true;
+    private volatile Instant lastUpdated = null;
 
-    public WeatherService(RestTemplate restTemplate, OpenWeatherProperties properties) {
+    public WeatherService(RestTemplate restTemplate, OpenWeatherProperties properties, CityCatalog cityCatalog,
+                          RequestMetricsRegistry metrics, CacheMetricsRegistry cacheMetricsRegistry) {
         this.restTemplate = restTemplate;
+        this.metrics = metrics;
+        this.cacheMetrics = cacheMetricsRegistry.register("weather",
+                () -> weatherCache.values().stream().map(CityWeatherResponse::fetchedAt).toList());
         this.properties = properties;
+        this.cityCatalog = cityCatalog;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.refreshPool = Executors.newFixedThreadPool(properties.getRefreshConcurrency(), runnable -> {
+            Thread thread = new Thread(runnable, "weather-refresh-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
-     * Initialize weather data on startup
+     * Initialize weather data on startup (비동기, 애플리케이션 시작을 막지 않음)
      */
     @PostConstruct
     public void init() {
-        log.info("Initializing weather data for {} major cities...", City.getMajorCities().length);
+        log.info("Initializing weather data for {} major cities...", cityCatalog.weatherCities().size());
         refreshAllWeatherData();
     }
 
+    @PreDestroy
+    public void shutdown() {
+        refreshPool.shutdownNow();
+    }
+
     /**
      * Refresh weather data every 1 minute
      */
@@ -57,27 +89,71 @@ public class WeatherService {
 
     /**
      * Fetch weather data for all major cities
+     * 도시별 조회를 갱신 풀에 넣고 바로 반환 (이전 갱신이 진행 중이면 건너뜀)
      */
     private void refreshAllWeatherData() {
-        City[] cities = City.getMajorCities();
-        int successCount = 0;
+        if (!refreshInProgress.compareAndSet(false, true)) {
+            log.warn("Previous weather refresh still running; skipping this cycle");
+            return;
+        }
 
-        for (City city : cities) {
-            try {
-                CityWeatherResponse weather = fetchWeatherForCity(city);
-                if (weather != null) {
-                    weatherCache.put(city.name().toLowerCase(), weather);
-                    successCount++;
-                }
-                // Small delay to avoid rate limiting (60 calls/min = 1 call/sec max)
-                Thread.sleep(100);
-            } catch (Exception e) {
-                log.error("Failed to fetch weather for {}: {}", city.name(), e.getMessage());
+        List<City> cities = cityCatalog.weatherCities();
+        long startedAt = System.currentTimeMillis();
+        AtomicInteger successCount = new AtomicInteger();
+
+        CompletableFuture<?>[] fetches = new CompletableFuture<?>[cities.size()];
+        boolean submitted = false;
+        try {
+            for (int i = 0; i < cities.size(); i++) {
+                City city = cities.get(i);
+                fetches[i] = CompletableFuture.runAsync(() -> {
+                    long loadStartedAt = System.nanoTime();
+                    try {
+                        CityWeatherResponse weather = fetchWeatherForCity(city);
+                        cacheMetrics.recordLoad(System.nanoTime() - loadStartedAt, weather != null);
+                        if (weather != null) {
+                            weatherCache.put(city.name().toLowerCase(), weather);
+                            successCount.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        cacheMetrics.recordLoad(System.nanoTime() - loadStartedAt, false);
+                        log.error("Failed to fetch weather for {}: {}", city.name(), e.getMessage());
+                    }
+                }, refreshPool);
+            }
+
+            CompletableFuture.allOf(fetches).whenComplete((ignored, e) -> {
+                pruneRemovedCities(cities);
+                lastUpdated = Instant.now();
+                warming = false;
+                refreshInProgress.set(false);
+                log.info("Weather data refreshed: {}/{} cities updated in {} ms",
+                        successCount.get(), cities.size(), System.currentTimeMillis() - startedAt);
+            });
+            submitted = true;
+        } finally {
+            // 풀이 종료되어 제출이 거부된 경우 등: 다음 주기에 다시 갱신할 수 있도록 해제
+            if (!submitted) {
+                refreshInProgress.set(false);
             }
         }
+    }
 
-        lastUpdated = Instant.now();
-        log.info("Weather data refreshed: {}/{} cities updated", successCount, cities.length);
+    /**
+     * 카탈로그에서 빠진 도시의 캐시 항목 제거
+     */
+    private void pruneRemovedCities(List<City> cities) {
+        Set<String> keys = new HashSet<>();
+        for (City city : cities) {
+            keys.add(city.name().toLowerCase());
+        }
+        weatherCache.keySet().removeIf(key -> {
+            if (keys.contains(key)) {
+                return false;
+            }
+            cacheMetrics.eviction();
+            return true;
+        });
     }
 
     /**
@@ -95,9 +171,15 @@ public class WeatherService {
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-        ResponseEntity<OpenWeatherResponse> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, OpenWeatherResponse.class
-        );
+        ResponseEntity<OpenWeatherResponse> response;
+        RequestMetricsRegistry.Call call = metrics.startDependency(RequestMetricsRegistry.OPENWEATHER);
+        try {
+            response = restTemplate.exchange(url, HttpMethod.GET, entity, OpenWeatherResponse.class);
+            call.end(false);
+        } catch (RuntimeException e) {
+            call.end(true);
+            throw e;
+        }
 
         if (response.getBody() != null) {
             return CityWeatherResponse.from(city, response.getBody(), Instant.now());
@@ -109,21 +191,61 @@ public class WeatherService {
      * Get cached weather for a specific city
      */
     public Optional<CityWeatherResponse> getWeatherByCity(String cityName) {
-        return Optional.ofNullable(weatherCache.get(cityName.toLowerCase()));
+        // 영문/한글 이름 모두 허용 (카탈로그에 없으면 캐시 키로 직접 조회)
+        String key = cityCatalog.findByName(cityName)
+                .map(city -> city.name().toLowerCase())
+                .orElse(cityName.toLowerCase());
+        return Optional.ofNullable(lookup(key));
+    }
+
+    /**
+     * 좌표에서 가장 가까운 날씨 갱신 도시의 캐시된 날씨 (외부 API 호출 없음)
+     */
+    public Optional<CityWeatherResponse> getNearestWeather(double lat, double lon) {
+        return cityCatalog.nearestWeatherCity(lat, lon)
+                .map(nearest -> lookup(nearest.city().name().toLowerCase()));
     }
 
     /**
      * Get cached weather for all cities
      */
     public List<CityWeatherResponse> getAllWeather() {
-        return new ArrayList<>(weatherCache.values());
+        // 병렬 갱신과 무관하게 항상 도시 목록 순서로 반환
+        List<CityWeatherResponse> weather = new ArrayList<>();
+        for (City city : cityCatalog.weatherCities()) {
+            CityWeatherResponse cached = lookup(city.name().toLowerCase());
+            if (cached != null) {
+                weather.add(cached);
+            }
+        }
+        return weather;
+    }
+
+    /**
+     * 캐시 조회 (적중/부재 기록, 부재 시에도 외부 API는 호출하지 않음)
+     */
+    private CityWeatherResponse lookup(String key) {
+        CityWeatherResponse cached = weatherCache.get(key);
+        if (cached != null) {
+            cacheMetrics.hit();
+        } else {
+            cacheMetrics.miss();
+        }
+        return cached;
+    }
+
+    /**
+     * 첫 갱신이 아직 끝나지 않았는지 여부
+     */
+    public boolean isWarming() {
+        return warming;
     }
 
     /**
      * Get list of available cities
      */
     public List<String> getAvailableCities() {
-        return Arrays.stream(City.getMajorCities())
+        return cityCatalog.weatherCities().stream()
                 .map(City::name)
                 .toList();
     }
@@ -133,8 +255,10 @@ public class WeatherService {
      */
     public Map<String, Object> getCacheStatus() {
         return Map.of(
+                "state", warming ? "warming" : "ready",
                 "cachedCities", weatherCache.size(),
-                "totalCities", City.getMajorCities().length,
+                "totalCities", cityCatalog.weatherCities().size(),
+                "catalogCities", cityCatalog.cities().size(),
                 "lastUpdated", lastUpdated != null ? lastUpdated.toString() : "never",
                 "availableCities", getAvailableCities()
         );
@@ -1,15 +1,20 @@
 package com.example.myapi.service.impl;
 
+import com.example.myapi.service.CacheMetricsRegistry;
 import com.example.myapi.service.EmergencyService;
 import com.example.myapi.util.HttpUtil;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.List;
 import java.util.TimeZone;
 
 @Slf4j
@@ -26,13 +31,27 @@ public class EmergencyServiceImpl implements EmergencyService {
     private volatile long lastUpdateTime = 0;
     private static final long UPDATE_INTERVAL_MS = 300000; // 5분
 
+    @Autowired
+    private CacheMetricsRegistry cacheMetricsRegistry;
+    private CacheMetricsRegistry.CacheMetrics cacheMetrics;
+
+    @PostConstruct
+    public void init() {
+        // 응답 전체를 하나의 항목으로 보관
+        cacheMetrics = cacheMetricsRegistry.register("emergency", () -> cachedEmergencyData != null ? 1 : 0,
+                () -> lastUpdateTime == 0 ? List.of() : List.of(Instant.ofEpochMilli(lastUpdateTime)));
+    }
+
     @Override
     public JsonObject getEmergencyInfo() {
         long currentTime = System.currentTimeMillis();
         
         // 캐시가 없거나 갱신 시간이 지났으면 업데이트
         if (cachedEmergencyData == null || (currentTime - lastUpdateTime >= UPDATE_INTERVAL_MS)) {
+            cacheMetrics.miss();
             renewEmergencyData();
+        } else {
+            cacheMetrics.hit();
         }
         
         return cachedEmergencyData != null ? cachedEmergencyData : createEmptyEmergencyJson();
@@ -40,6 +59,7 @@ public class EmergencyServiceImpl implements EmergencyService {
 
     @Override
     public void renewEmergencyData() {
+        long startedAt = System.nanoTime();
         try {
             SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd");
             TimeZone seoul = TimeZone.getTimeZone("Asia/Seoul");
@@ -128,9 +148,11 @@ public class EmergencyServiceImpl implements EmergencyService {
             combinedJson.add("items", formattedArray);
             cachedEmergencyData = combinedJson;
             lastUpdateTime = System.currentTimeMillis();
+            cacheMetrics.recordLoad(System.nanoTime() - startedAt, true);
             log.debug("Successfully updated emergency data with {} items", formattedArray.size());
             
         } catch (Exception e) {
+            cacheMetrics.recordLoad(System.nanoTime() - startedAt, false);
             log.error("Error renewing emergency data: {}", e.getMessage(), e);
             if (cachedEmergencyData == null) {
                 cachedEmergencyData = createEmptyEmergencyJson();
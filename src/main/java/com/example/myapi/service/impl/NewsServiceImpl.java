@@ -1,23 +1,42 @@
 package com.example.myapi.service.impl;
 
+import com.example.myapi.dto.news.NewsSnapshot;
 import com.example.myapi.entity.News;
-import com.example.myapi.entity.NewsCompany;
 import com.example.myapi.repository.news.NewsRepository;
 import com.example.myapi.repository.news.NewsCompanyRepository;
+import com.example.myapi.service.CacheMetricsRegistry;
+import com.example.myapi.service.NewsSearchIndex;
 import com.example.myapi.service.NewsService;
+import com.example.myapi.service.RequestMetricsRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import jakarta.annotation.PostConstruct;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
@@ -31,16 +50,75 @@ public class NewsServiceImpl implements NewsService {
     @Autowired
     private NewsCompanyRepository newsCompanyRepository;
 
-    private List<News> cachedNews = new CopyOnWriteArrayList<>();
-    private final Map<String, String> companyCodeToNameCache = new ConcurrentHashMap<>();
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+
+    @Autowired
+    private RequestMetricsRegistry metrics;
+
+    @Autowired
+    private CacheMetricsRegistry cacheMetricsRegistry;
+
+    /**
+     * 정렬 키: News_CreateDT 내림차순, 같으면 id 내림차순 (워터마크 비교에도 사용)
+     */
+    private record NewsKey(LocalDateTime createdAt, long id) {
+        static NewsKey of(News news) {
+            return new NewsKey(news.getNewsCreateDT(), news.getId());
+        }
+    }
+
+    private static final Comparator<NewsKey> NEWEST_FIRST = Comparator
+            .comparing(NewsKey::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(NewsKey::id, Comparator.reverseOrder());
+
+    /**
+     * 회사별 인덱스 항목 (최근 조회 시각은 LRU 제거용)
+     */
+    private static final class CompanyNews {
+        final NavigableMap<NewsKey, News> news = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+        final Instant seededAt = Instant.now();
+        volatile long lastAccessNanos = System.nanoTime();
+    }
+
+    // 최근 기사 창 (WINDOW_SIZE건) + 회사별 인덱스 (회사 사전에 있는 코드만, 최근 조회한 MAX_COMPANIES개 회사, 회사당 COMPANY_SIZE건)
+    private final NavigableMap<NewsKey, News> window = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final Map<Long, NewsKey> windowKeysById = new ConcurrentHashMap<>();
+    private final Map<String, CompanyNews> newsByCompany = new ConcurrentHashMap<>();
+    private CacheMetricsRegistry.CacheMetrics windowMetrics;
+    private CacheMetricsRegistry.CacheMetrics companyMetrics;
+    private volatile NewsKey watermark;
+
+    private volatile List<News> cachedNews = List.of();
+    private volatile JsonArray snapshotItems;
+    private volatile NewsSnapshot snapshot;
+    private final AtomicLong snapshotVersion = new AtomicLong();
+    private volatile Map<String, String> companyNames = Map.of();
+    private volatile long companyNamesLoadedAt = 0;
+    private final Set<String> unknownCompanyCodes = ConcurrentHashMap.newKeySet();
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
     private volatile boolean isInitialized = false;
     private volatile long lastUpdateTime = 0;
     private static final long CACHE_DURATION_MS = 3600000; // 1시간
+    private static final int DISPLAY_SIZE = 100;
+    private static final int WINDOW_SIZE = 1000;
+    private static final int COMPANY_SIZE = 100;
+    private static final int MAX_COMPANIES = 200;
+    private static final int SYNC_BATCH_SIZE = 200;
+    private static final int SYNC_MAX_BATCHES = 10;
+    private static final int GZIP_MIN_BYTES = 1024;
+    private static final long COMPANY_RELOAD_MIN_MS = 300000; // 5분
+    private static final ZoneId NEWS_ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @PostConstruct
     public void init() {
-        cachedNews = new CopyOnWriteArrayList<>();
+        // 최근 창은 한 번에 동기화되므로 나이는 마지막 동기화 시각 하나
+        windowMetrics = cacheMetricsRegistry.register("news.window", window::size,
+                () -> lastUpdateTime == 0 ? List.of() : List.of(Instant.ofEpochMilli(lastUpdateTime)));
+        companyMetrics = cacheMetricsRegistry.register("news.company",
+                () -> newsByCompany.values().stream().map(entry -> entry.seededAt).toList());
+        rebuildSnapshot();
         executorService.submit(this::loadInitialNewsData);
     }
 
@@ -52,16 +130,26 @@ public class NewsServiceImpl implements NewsService {
         while (retryCount < maxRetries && !isInitialized) {
             try {
                 log.info("Loading initial news data (attempt {}/{})", retryCount + 1, maxRetries);
-                List<News> newsList = newsRepository.findTop100OrderByNewsCreateDTDesc();
+                if (companyNamesLoadedAt == 0) {
+                    refreshCompanyNames();
+                }
+                long startedAt = System.nanoTime();
+                boolean loaded = false;
+                List<News> newsList;
+                try {
+                    newsList = timed(newsRepository::findTop100OrderByNewsCreateDTDesc);
+                    loaded = true;
+                } finally {
+                    windowMetrics.recordLoad(System.nanoTime() - startedAt, loaded);
+                }
                 
                 if (newsList != null && !newsList.isEmpty()) {
-                    cachedNews = newsList;
+                    merge(newsList);
                     lastUpdateTime = System.currentTimeMillis();
                     isInitialized = true;
                     log.info("Successfully loaded {} news items", newsList.size());
                 } else {
                     log.warn("No news data found, keeping empty cache");
-                    cachedNews = new CopyOnWriteArrayList<>();
                     isInitialized = true;
                 }
             } catch (Exception e) {
@@ -77,7 +165,6 @@ public class NewsServiceImpl implements NewsService {
                     }
                 } else {
                     log.error("Failed to load initial news data after {} attempts, keeping empty cache", maxRetries);
-                    cachedNews = new CopyOnWriteArrayList<>();
                     isInitialized = true;
                 }
             }
@@ -86,126 +173,395 @@ public class NewsServiceImpl implements NewsService {
 
     @Override
     public List<News> getAllNews() {
-        // 캐시가 만료되었거나 초기화되지 않은 경우 갱신
+        // 초기화되지 않았거나 증분 동기화가 오래 실패한 경우 직접 갱신
         long currentTime = System.currentTimeMillis();
         if (!isInitialized || (currentTime - lastUpdateTime >= CACHE_DURATION_MS)) {
+            windowMetrics.miss();
             updateNewsData();
+        } else {
+            windowMetrics.hit();
         }
         return cachedNews;
     }
 
+    /**
+     * 회사별 최신 기사 (처음 조회 시에만 DB에서 불러오고, 이후는 증분 동기화로 유지)
+     * 회사 사전에 없는 코드는 인덱스에 보관하지 않고 DB 결과만 반환
+     */
     @Override
     public List<News> getNewsByCompany(String company) {
+        CompanyNews companyNews = newsByCompany.get(company);
+        if (companyNews != null) {
+            companyMetrics.hit();
+            companyNews.lastAccessNanos = System.nanoTime();
+            return List.copyOf(companyNews.news.values());
+        }
+
+        companyMetrics.miss();
+        long startedAt = System.nanoTime();
+        boolean loaded = false;
         try {
-            return newsRepository.findTop100ByNewsCompanyOrderByNewsCreateDTDesc(company);
+            List<News> newsList = timed(() -> newsRepository.findTop100ByNewsCompanyOrderByNewsCreateDTDesc(company));
+            List<News> result = companyNames.containsKey(company)
+                    ? List.copyOf(seedCompany(company, newsList).values())
+                    : List.copyOf(newsList);
+            loaded = true;
+            return result;
         } catch (Exception e) {
             log.error("Error getting news for company: {}", company, e);
             return List.of();
+        } finally {
+            companyMetrics.recordLoad(System.nanoTime() - startedAt, loaded);
+        }
+    }
+
+    /**
+     * 마지막으로 본 (News_CreateDT, id) 이후 기사만 가져와 병합 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void syncNews() {
+        NewsKey since = watermark;
+        if (since == null) {
+            // 초기 로드 전이면 초기 로드 스레드가 재시도 중
+            // 초기 로드 후에도 없으면 (빈 테이블, 작성 시각 없는 기사뿐) 워터마크가 생길 때까지 전체 재조회
+            if (isInitialized) {
+                updateNewsData();
+            }
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean loaded = false;
+        try {
+            int fetched = 0;
+            for (int batch = 0; batch < SYNC_MAX_BATCHES; batch++) {
+                NewsKey after = since;
+                List<News> newer = timed(() -> newsRepository.findNewerThan(after.createdAt(), after.id(), SYNC_BATCH_SIZE));
+                if (newer.isEmpty()) {
+                    break;
+                }
+                merge(newer);
+                fetched += newer.size();
+                since = watermark;
+                if (newer.size() < SYNC_BATCH_SIZE) {
+                    break;
+                }
+            }
+            lastUpdateTime = System.currentTimeMillis();
+            loaded = true;
+            if (fetched > 0) {
+                log.debug("Synced {} new news items (watermark {} / {})", fetched, since.createdAt(), since.id());
+            }
+        } catch (Exception e) {
+            log.error("Error syncing news data: {}", e.getMessage());
+        } finally {
+            windowMetrics.recordLoad(System.nanoTime() - startedAt, loaded);
         }
     }
 
+    /**
+     * 최신 100건 재조회 후 병합 (1시간마다)
+     * 워터마크보다 과거 시각으로 늦게 들어왔거나 수정된 기사 보정용
+     */
     @Override
     @Scheduled(fixedRate = 3600000) // 1시간마다 자동 갱신
     public void updateNewsData() {
+        long startedAt = System.nanoTime();
+        boolean loaded = false;
         try {
-            List<News> newsList = newsRepository.findTop100OrderByNewsCreateDTDesc();
+            List<News> newsList = timed(newsRepository::findTop100OrderByNewsCreateDTDesc);
             
             if (newsList != null && !newsList.isEmpty()) {
-                cachedNews = newsList;
+                merge(newsList);
                 lastUpdateTime = System.currentTimeMillis();
                 log.debug("Successfully updated news cache with {} items", newsList.size());
             } else {
                 log.warn("No news data found during update, keeping existing cache");
             }
+            loaded = true;
         } catch (Exception e) {
             log.error("Error updating news data: {}", e.getMessage());
+        } finally {
+            windowMetrics.recordLoad(System.nanoTime() - startedAt, loaded);
+        }
+    }
+
+    /**
+     * 기사 병합: 최근 창/회사별 인덱스/검색 색인 반영, 워터마크 전진, 표시용 목록 재구성
+     */
+    private synchronized void merge(List<News> newsList) {
+        NewsKey latest = watermark;
+        for (News news : newsList) {
+            if (news.getId() == null) {
+                continue;
+            }
+            NewsKey key = NewsKey.of(news);
+            // 작성 시각이 바뀐 기사는 기존 키 제거 후 교체
+            NewsKey previous = windowKeysById.put(news.getId(), key);
+            if (previous != null && !previous.equals(key)) {
+                window.remove(previous);
+            }
+            window.put(key, news);
+
+            CompanyNews companyEntry = news.getNewsCompany() != null
+                    ? newsByCompany.get(news.getNewsCompany())
+                    : null;
+            if (companyEntry != null) {
+                NavigableMap<NewsKey, News> companyNews = companyEntry.news;
+                if (previous != null) {
+                    companyNews.remove(previous);
+                }
+                companyNews.put(key, news);
+                trim(companyNews, COMPANY_SIZE);
+            }
+
+            if (key.createdAt() != null && (latest == null || NEWEST_FIRST.compare(key, latest) < 0)) {
+                latest = key;
+            }
+        }
+        while (window.size() > WINDOW_SIZE) {
+            windowKeysById.remove(window.pollLastEntry().getKey().id());
+        }
+        watermark = latest;
+        indexForSearch(newsList);
+
+        List<News> display = new ArrayList<>(DISPLAY_SIZE);
+        for (News news : window.values()) {
+            if (display.size() == DISPLAY_SIZE) {
+                break;
+            }
+            display.add(news);
+        }
+        cachedNews = List.copyOf(display);
+        rebuildSnapshot();
+    }
+
+    /**
+     * 회사별 인덱스 생성 (DB 결과 + 조회 중 동기화된 최근 창의 기사)
+     * MAX_COMPANIES개를 넘으면 가장 오래 조회되지 않은 회사부터 제거
+     */
+    private synchronized NavigableMap<NewsKey, News> seedCompany(String company, List<News> newsList) {
+        CompanyNews existing = newsByCompany.get(company);
+        if (existing != null) {
+            return existing.news;
+        }
+
+        CompanyNews entry = new CompanyNews();
+        NavigableMap<NewsKey, News> companyNews = entry.news;
+        for (News news : newsList) {
+            if (news.getId() != null) {
+                companyNews.put(NewsKey.of(news), news);
+            }
+        }
+        window.forEach((key, news) -> {
+            if (company.equals(news.getNewsCompany())) {
+                companyNews.put(key, news);
+            }
+        });
+        trim(companyNews, COMPANY_SIZE);
+        while (newsByCompany.size() >= MAX_COMPANIES) {
+            newsByCompany.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().lastAccessNanos))
+                    .ifPresent(e -> newsByCompany.remove(e.getKey()));
+        }
+        newsByCompany.put(company, entry);
+        return companyNews;
+    }
+
+    private void trim(NavigableMap<NewsKey, News> map, int maxSize) {
+        while (map.size() > maxSize) {
+            map.pollLastEntry();
         }
     }
 
     @Override
     public JsonArray getCachedNews() {
+        // 캐시 확인 및 필요시 갱신
+        getAllNews();
+        return snapshotItems.deepCopy();
+    }
+
+    @Override
+    public NewsSnapshot getNewsSnapshot() {
+        getAllNews();
+        return snapshot;
+    }
+
+    /**
+     * /api/social/news 응답을 미리 직렬화 (UTF-8 + gzip, 내용 해시 ETag)
+     * 내용이 그대로면 기존 스냅샷 유지
+     */
+    private synchronized void rebuildSnapshot() {
+        JsonArray items;
+        try {
+            items = buildNewsArray(cachedNews);
+        } catch (Exception e) {
+            log.error("Error creating JSON from cached news: {}", e.getMessage());
+            if (snapshot != null) {
+                return;
+            }
+            items = new JsonArray();
+            items.add(placeholder("데이터 로드 중 오류가 발생했습니다", "잠시 후 다시 시도해주세요."));
+        }
+
+        JsonObject result = new JsonObject();
+        JsonObject data = new JsonObject();
+        data.add("items", items);
+        result.add("data", data);
+        byte[] json = result.toString().getBytes(StandardCharsets.UTF_8);
+
+        String etag = "\"" + contentHash(json) + "\"";
+        if (snapshot != null && snapshot.etag().equals(etag)) {
+            return;
+        }
+        byte[] gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+        snapshotItems = items;
+        snapshot = new NewsSnapshot(snapshotVersion.incrementAndGet(), etag, json, gzip);
+        log.debug("News snapshot v{} rendered ({} bytes, gzip {})", snapshot.version(), json.length,
+                gzip != null ? gzip.length : "-");
+    }
+
+    private JsonArray buildNewsArray(List<News> newsList) {
         JsonArray jsonArray = new JsonArray();
-        
+        if (newsList.isEmpty()) {
+            jsonArray.add(placeholder("데이터를 불러오는 중입니다...", "뉴스 데이터가 준비되지 않았습니다."));
+            return jsonArray;
+        }
+
+        for (News news : newsList) {
+            JsonObject newsObject = new JsonObject();
+
+            // MySQL에서 가져온 LocalDateTime을 한국 시간대로 간주하고 포맷팅
+            String formattedDate = news.getNewsCreateDT() != null ? news.getNewsCreateDT().format(DATE_FORMATTER) : "";
+            newsObject.addProperty("createDT", formattedDate);
+
+            // 회사 코드를 회사 이름으로 변환
+            String companyCode = news.getNewsCompany() != null ? news.getNewsCompany() : "";
+            String companyName = getCompanyName(companyCode);
+            newsObject.addProperty("company", companyName);
+            newsObject.addProperty("companyCode", companyCode);
+
+            newsObject.addProperty("title", news.getNewsTitle() != null ? news.getNewsTitle() : "");
+            newsObject.addProperty("content", news.getNewsContents() != null ? news.getNewsContents() : "");
+            // ETC1에 실제 뉴스 링크 URL이 저장되어 있음
+            newsObject.addProperty("link", news.getEtc1() != null && !news.getEtc1().trim().isEmpty() ? news.getEtc1() : "");
+            newsObject.addProperty("reporter", news.getNewsFrom() != null ? news.getNewsFrom() : "");
+            jsonArray.add(newsObject);
+        }
+        return jsonArray;
+    }
+
+    private JsonObject placeholder(String title, String content) {
+        JsonObject newsObject = new JsonObject();
+        newsObject.addProperty("createDT", "");
+        newsObject.addProperty("company", "");
+        newsObject.addProperty("title", title);
+        newsObject.addProperty("content", content);
+        return newsObject;
+    }
+
+    private String contentHash(byte[] json) {
         try {
-            // 캐시 확인 및 필요시 갱신
-            getAllNews();
-            
-            if (cachedNews != null && !cachedNews.isEmpty()) {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-                for (News news : cachedNews) {
-                    JsonObject newsObject = new JsonObject();
-                    
-                    // 날짜를 한국 시간대로 변환하여 포맷팅
-                    String formattedDate = "";
-                    if (news.getNewsCreateDT() != null) {
-                        LocalDateTime localDateTime = news.getNewsCreateDT();
-                        // MySQL에서 가져온 LocalDateTime을 한국 시간대로 간주하고 포맷팅
-                        formattedDate = localDateTime.format(formatter);
-                    }
-                    newsObject.addProperty("createDT", formattedDate);
-                    
-                    // 회사 코드를 회사 이름으로 변환
-                    String companyCode = news.getNewsCompany() != null ? news.getNewsCompany() : "";
-                    String companyName = getCompanyName(companyCode);
-                    newsObject.addProperty("company", companyName);
-                    newsObject.addProperty("companyCode", companyCode);
-                    
-                    newsObject.addProperty("title", news.getNewsTitle() != null ? news.getNewsTitle() : "");
-                    newsObject.addProperty("content", news.getNewsContents() != null ? news.getNewsContents() : "");
-                    // ETC1에 실제 뉴스 링크 URL이 저장되어 있음
-                    newsObject.addProperty("link", news.getEtc1() != null && !news.getEtc1().trim().isEmpty() ? news.getEtc1() : "");
-                    newsObject.addProperty("reporter", news.getNewsFrom() != null ? news.getNewsFrom() : "");
-                    jsonArray.add(newsObject);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException e) {
+            log.warn("Failed to gzip news snapshot: {}", e.getMessage());
+            return null;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 검색 색인 반영 (News_CreateDT는 한국 시간 기준)
+     */
+    private void indexForSearch(List<News> newsList) {
+        for (News news : newsList) {
+            if (news.getId() == null) {
+                continue;
+            }
+            Instant publishedAt = news.getNewsCreateDT() != null
+                    ? news.getNewsCreateDT().atZone(NEWS_ZONE).toInstant()
+                    : null;
+            String link = news.getEtc1() != null && !news.getEtc1().trim().isEmpty() ? news.getEtc1() : null;
+            newsSearchIndex.upsert("db:" + news.getId(), "db", news.getNewsTitle(), news.getNewsContents(),
+                    link, getCompanyName(news.getNewsCompany()), publishedAt);
+        }
+    }
+
+    /**
+     * bs4news_news_company 전체를 한 번에 읽어 사전 교체 (30분마다)
+     * 이름이 바뀌면 스냅샷도 다시 렌더링
+     */
+    @Scheduled(fixedRate = 1800000, initialDelay = 1800000)
+    public void refreshCompanyNames() {
+        try {
+            Map<String, String> names = new HashMap<>();
+            for (Object[] row : timed(newsCompanyRepository::findAllCodeAndName)) {
+                String code = (String) row[0];
+                String name = (String) row[1];
+                if (code != null && name != null) {
+                    names.putIfAbsent(code, name);
                 }
-            } else {
-                JsonObject emptyNewsObject = new JsonObject();
-                emptyNewsObject.addProperty("createDT", "");
-                emptyNewsObject.addProperty("company", "");
-                emptyNewsObject.addProperty("title", "데이터를 불러오는 중입니다...");
-                emptyNewsObject.addProperty("content", "뉴스 데이터가 준비되지 않았습니다.");
-                jsonArray.add(emptyNewsObject);
+            }
+            boolean changed = !names.equals(companyNames);
+            companyNames = Map.copyOf(names);
+            companyNamesLoadedAt = System.currentTimeMillis();
+            unknownCompanyCodes.clear();
+            log.debug("Loaded {} news company names", names.size());
+            if (changed) {
+                rebuildSnapshot();
             }
         } catch (Exception e) {
-            log.error("Error creating JSON from cached news: {}", e.getMessage());
-            JsonObject errorNewsObject = new JsonObject();
-            errorNewsObject.addProperty("createDT", "");
-            errorNewsObject.addProperty("company", "");
-            errorNewsObject.addProperty("title", "데이터 로드 중 오류가 발생했습니다");
-            errorNewsObject.addProperty("content", "잠시 후 다시 시도해주세요.");
-            jsonArray.add(errorNewsObject);
-        }
-        
-        return jsonArray;
+            log.error("Error loading news company names: {}", e.getMessage());
+        }
     }
 
     /**
-     * 회사 코드로 회사 이름 조회 (캐싱 적용)
+     * 회사 코드로 회사 이름 조회 (메모리 사전)
+     * 사전에 없는 코드는 코드 그대로 반환하고 다음 사전 갱신까지 DB를 다시 조회하지 않음
+     * 처음 보는 코드는 사전이 COMPANY_RELOAD_MIN_MS보다 오래됐을 때만 백그라운드 재로드
      */
     private String getCompanyName(String companyCode) {
         if (companyCode == null || companyCode.trim().isEmpty()) {
             return "";
         }
 
-        // 캐시에서 먼저 조회
-        String cachedName = companyCodeToNameCache.get(companyCode);
-        if (cachedName != null) {
-            return cachedName;
+        String name = companyNames.get(companyCode);
+        if (name != null) {
+            return name;
         }
 
-        // 캐시에 없으면 DB에서 조회
-        try {
-            NewsCompany company = newsCompanyRepository.findByNewsCompanyCode(companyCode).orElse(null);
-            if (company != null && company.getNewsCompanyName() != null) {
-                String companyName = company.getNewsCompanyName();
-                // 캐시에 저장
-                companyCodeToNameCache.put(companyCode, companyName);
-                return companyName;
-            }
-        } catch (Exception e) {
-            log.warn("Failed to find company name for code: {}", companyCode, e);
+        if (unknownCompanyCodes.add(companyCode)
+                && System.currentTimeMillis() - companyNamesLoadedAt >= COMPANY_RELOAD_MIN_MS) {
+            companyNamesLoadedAt = System.currentTimeMillis();
+            executorService.submit(this::refreshCompanyNames);
         }
 
         // 회사 이름을 찾을 수 없으면 코드 반환
         return companyCode;
     }
+
+    /**
+     * MySQL 조회 시간 기록 (의존성 지표 mysql)
+     */
+    private <T> T timed(Supplier<T> query) {
+        RequestMetricsRegistry.Call call = metrics.startDependency(RequestMetricsRegistry.MYSQL);
+        try {
+            T result = query.get();
+            call.end(false);
+            return result;
+        } catch (RuntimeException e) {
+            call.end(true);
+            throw e;
+        }
+    }
 }
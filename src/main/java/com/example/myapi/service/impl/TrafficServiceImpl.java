@@ -1,13 +1,19 @@
 package com.example.myapi.service.impl;
 
+import com.example.myapi.service.CacheMetricsRegistry;
 import com.example.myapi.service.TrafficService;
 import com.example.myapi.util.HttpUtil;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.List;
+
 @Slf4j
 @Service
 public class TrafficServiceImpl implements TrafficService {
@@ -22,13 +28,27 @@ public class TrafficServiceImpl implements TrafficService {
     private volatile long lastUpdateTime = 0;
     private static final long UPDATE_INTERVAL_MS = 300000; // 5분
 
+    @Autowired
+    private CacheMetricsRegistry cacheMetricsRegistry;
+    private CacheMetricsRegistry.CacheMetrics cacheMetrics;
+
+    @PostConstruct
+    public void init() {
+        // 응답 전체를 하나의 항목으로 보관
+        cacheMetrics = cacheMetricsRegistry.register("traffic", () -> cachedTrafficData != null ? 1 : 0,
+                () -> lastUpdateTime == 0 ? List.of() : List.of(Instant.ofEpochMilli(lastUpdateTime)));
+    }
+
     @Override
     public JsonObject getTrafficInfo() {
         long currentTime = System.currentTimeMillis();
         
         // 캐시가 없거나 갱신 시간이 지났으면 업데이트
         if (cachedTrafficData == null || (currentTime - lastUpdateTime >= UPDATE_INTERVAL_MS)) {
+            cacheMetrics.miss();
             renewTrafficData();
+        } else {
+            cacheMetrics.hit();
         }
         
         return cachedTrafficData != null ? cachedTrafficData : createEmptyTrafficJson();
@@ -36,6 +56,7 @@ public class TrafficServiceImpl implements TrafficService {
 
     @Override
     public void renewTrafficData() {
+        long startedAt = System.nanoTime();
         try {
             String trafficInfo = new HttpUtil().executeGet(
                 trafficApiUrl + "?apiKey=" + trafficApiKey + "&type=all&eventType=all&getType=json"
@@ -45,11 +66,14 @@ public class TrafficServiceImpl implements TrafficService {
                 JsonObject jsonObject = JsonParser.parseString(trafficInfo).getAsJsonObject();
                 cachedTrafficData = jsonObject;
                 lastUpdateTime = System.currentTimeMillis();
+                cacheMetrics.recordLoad(System.nanoTime() - startedAt, true);
                 log.debug("Successfully updated traffic data");
             } else {
+                cacheMetrics.recordLoad(System.nanoTime() - startedAt, false);
                 log.warn("Traffic info is null or empty, keeping existing cache");
             }
         } catch (Exception e) {
+            cacheMetrics.recordLoad(System.nanoTime() - startedAt, false);
             log.error("Error renewing traffic data: {}", e.getMessage());
             if (cachedTrafficData == null) {
                 cachedTrafficData = createEmptyTrafficJson();
@@ -0,0 +1,136 @@
+package com.example.myapi.sse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 하나와 그 연결 전용 송신 큐
+ * 브로드캐스트 스레드는 큐에 넣기만 하고, 실제 전송은 SseDispatcher의 송신 스레드가 담당
+ */
+public class SseConnection {
+
+    /**
+     * 큐에 대기 중인 이벤트
+     */
+    record OutboundEvent(String name, Object data, MediaType mediaType) {
+    }
+
+    private final SseEmitter emitter;
+    private final String userId;
+    private final int capacity;
+
+    // 용량이 작으므로 (기본 16) 같은 이름 이벤트 교체가 쉬운 LinkedList 사용, this로 동기화
+    private final LinkedList<OutboundEvent> queue = new LinkedList<>();
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+
+    // 전송 대기 이벤트가 있는 상태에서 마지막으로 진전이 있었던 시각 (this로 동기화)
+    private long lastProgressAt = 0;
+    private long droppedCount = 0;
+
+    // 연결별 부가 상태 (예: 마지막으로 보낸 대시보드 스냅샷)
+    private volatile Object attachment;
+
+    SseConnection(SseEmitter emitter, String userId, int capacity) {
+        this.emitter = emitter;
+        this.userId = userId;
+        this.capacity = capacity;
+    }
+
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    public String userId() {
+        return userId;
+    }
+
+    public Object attachment() {
+        return attachment;
+    }
+
+    public void attach(Object attachment) {
+        this.attachment = attachment;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public synchronized int queuedCount() {
+        return queue.size();
+    }
+
+    public synchronized long droppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * 이벤트를 큐에 추가
+     *
+     * @return 대기 이벤트가 있는데 stallTimeoutMs 동안 한 건도 전송하지 못했으면 false (제거 대상)
+     */
+    synchronized boolean offer(OutboundEvent event, SseOverflowPolicy policy, long stallTimeoutMs) {
+        long now = System.currentTimeMillis();
+        if (queue.isEmpty()) {
+            lastProgressAt = now;
+        } else if (now - lastProgressAt >= stallTimeoutMs) {
+            return false;
+        }
+
+        if (policy == SseOverflowPolicy.COALESCE_LATEST) {
+            ListIterator<OutboundEvent> it = queue.listIterator();
+            while (it.hasNext()) {
+                if (it.next().name().equals(event.name())) {
+                    it.set(event);
+                    return true;
+                }
+            }
+        }
+
+        if (queue.size() >= capacity) {
+            queue.pollFirst();
+            droppedCount++;
+        }
+        queue.addLast(event);
+        return true;
+    }
+
+    synchronized OutboundEvent poll() {
+        return queue.pollFirst();
+    }
+
+    synchronized boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    synchronized void markDelivered() {
+        lastProgressAt = System.currentTimeMillis();
+    }
+
+    boolean tryStartDrain() {
+        return !closed && draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+
+    /**
+     * 연결 종료 처리 (큐 비움)
+     *
+     * @return 이번 호출로 처음 닫힌 경우 true
+     */
+    synchronized boolean close() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        queue.clear();
+        return true;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.myapi.sse;
+
+import com.example.myapi.config.SseProperties;
+import com.example.myapi.sse.SseConnection.OutboundEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대시보드 SSE 송신 디스패처
+ * - 연결마다 작은 송신 큐를 두고, 전용 송신 스레드 풀이 연결별로 순서대로 전송
+ * - 브로드캐스트 호출은 큐에 넣고 바로 반환하므로 느린 클라이언트가 스케줄러를 막지 않음
+ * - 대기 이벤트가 있는데 stall-timeout 동안 전송이 진행되지 않은 연결은 제거
+ */
+@Component
+public class SseDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SseDispatcher.class);
+
+    private final SseProperties properties;
+    private final Map<SseEmitter, SseConnection> connections = new ConcurrentHashMap<>();
+    private final ExecutorService writerPool;
+
+    public SseDispatcher(SseProperties properties) {
+        this.properties = properties;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.writerPool = Executors.newFixedThreadPool(properties.getWriterThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "sse-writer-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 새 emitter 등록 (완료/타임아웃/에러 시 자동 제거)
+     */
+    public SseConnection register(SseEmitter emitter, String userId) {
+        SseConnection connection = new SseConnection(emitter, userId, properties.getQueueCapacity());
+        connections.put(emitter, connection);
+
+        emitter.onCompletion(() -> {
+            remove(connection);
+            log.info("SSE connection completed. Active connections: {}", connections.size());
+        });
+        emitter.onTimeout(() -> {
+            remove(connection);
+            log.info("SSE connection timed out. Active connections: {}", connections.size());
+        });
+        emitter.onError(e -> {
+            remove(connection);
+            log.warn("SSE connection error: {}. Active connections: {}", e.getMessage(), connections.size());
+        });
+
+        return connection;
+    }
+
+    public Collection<SseConnection> connections() {
+        return connections.values();
+    }
+
+    public int size() {
+        return connections.size();
+    }
+
+    public boolean isEmpty() {
+        return connections.isEmpty();
+    }
+
+    /**
+     * 특정 연결에 문자열 이벤트 전송 예약
+     */
+    public void send(SseConnection connection, String eventName, String data) {
+        send(connection, eventName, data, null);
+    }
+
+    /**
+     * 특정 연결에 이벤트 전송 예약 (byte[] JSON 등은 mediaType 지정)
+     */
+    public void send(SseConnection connection, String eventName, Object data, MediaType mediaType) {
+        if (connection.isClosed()) return;
+
+        OutboundEvent event = new OutboundEvent(eventName, data, mediaType);
+        if (!connection.offer(event, properties.policyFor(eventName), properties.getStallTimeoutMs())) {
+            log.warn("Evicting stalled SSE client for user {} ({} queued, {} dropped)",
+                    connection.userId(), connection.queuedCount(), connection.droppedCount());
+            evict(connection);
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    /**
+     * 모든 연결에 동일한 이벤트 전송 예약
+     */
+    public void broadcast(String eventName, Object data, MediaType mediaType) {
+        for (SseConnection connection : connections.values()) {
+            send(connection, eventName, data, mediaType);
+        }
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        if (!connection.tryStartDrain()) return;
+        try {
+            writerPool.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.finishDrain();
+        }
+    }
+
+    /**
+     * 연결의 큐를 비울 때까지 순서대로 전송 (연결당 동시에 하나의 송신 스레드만 실행)
+     */
+    private void drain(SseConnection connection) {
+        try {
+            OutboundEvent event;
+            while (!connection.isClosed() && (event = connection.poll()) != null) {
+                try {
+                    connection.emitter().send(SseEmitter.event()
+                            .name(event.name())
+                            .data(event.data(), event.mediaType()));
+                    connection.markDelivered();
+                } catch (Exception e) {
+                    // 클라이언트 연결 끊김
+                    log.debug("Failed to send SSE event {}: {}", event.name(), e.getMessage());
+                    remove(connection);
+                    return;
+                }
+            }
+        } finally {
+            connection.finishDrain();
+        }
+
+        // finishDrain 직전에 들어온 이벤트 처리
+        if (connection.hasPending()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void evict(SseConnection connection) {
+        remove(connection);
+        try {
+            connection.emitter().complete();
+        } catch (Exception e) {
+            log.debug("Failed to complete evicted SSE emitter: {}", e.getMessage());
+        }
+    }
+
+    private void remove(SseConnection connection) {
+        if (connection.close()) {
+            connections.remove(connection.emitter());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writerPool.shutdownNow();
+    }
+}
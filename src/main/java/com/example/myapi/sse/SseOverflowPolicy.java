@@ -0,0 +1,16 @@
+package com.example.myapi.sse;
+
+/**
+ * 연결별 송신 큐에 이벤트를 넣을 때의 정책
+ */
+public enum SseOverflowPolicy {
+    /**
+     * 큐 끝에 추가하고, 큐가 가득 차면 가장 오래된 이벤트를 버림 (alert 등 모두 전달해야 하는 이벤트)
+     */
+    DROP_OLDEST,
+
+    /**
+     * 아직 전송되지 않은 같은 이름의 이벤트가 있으면 최신 데이터로 교체 (system, dashboard 등 스냅샷 이벤트)
+     */
+    COALESCE_LATEST
+}
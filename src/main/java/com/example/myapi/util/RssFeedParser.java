@@ -0,0 +1,207 @@
+package com.example.myapi.util;
+
+import com.example.myapi.dto.rss.RssItem;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍(StAX) RSS/Atom 파서
+ * - 문서 전체를 메모리에 올리지 않고 &lt;item&gt;(RSS 2.0/1.0) 또는 &lt;entry&gt;(Atom)를 읽는 즉시 RssItem으로 변환
+ * - maxItems개를 읽으면 나머지 스트림은 읽지 않고 종료
+ * - DTD/외부 엔티티 처리 비활성화
+ */
+public final class RssFeedParser {
+
+    private static final int MAX_DESCRIPTION_LENGTH = 200;
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private RssFeedParser() {
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * 피드 파싱 (최대 maxItems개)
+     */
+    public static List<RssItem> parse(InputStream in, String source, int maxItems) throws XMLStreamException {
+        List<RssItem> items = new ArrayList<>();
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+        try {
+            ItemBuilder item = null;
+            String field = null;         // 현재 텍스트를 모으는 필드
+            int fieldDepth = 0;          // 필드 내부 중첩 깊이 (Atom xhtml content 등)
+            StringBuilder text = new StringBuilder();
+
+            while (reader.hasNext() && items.size() < maxItems) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        String name = reader.getLocalName();
+                        if (item == null) {
+                            if (name.equals("item") || name.equals("entry")) {
+                                item = new ItemBuilder();
+                            }
+                        } else if (field != null) {
+                            fieldDepth++;
+                        } else if (isItemField(reader, name) && !item.has(name)) {
+                            if (name.equals("link") && reader.getAttributeValue(null, "href") != null) {
+                                // Atom: <link rel="alternate" href="..."/>
+                                String rel = reader.getAttributeValue(null, "rel");
+                                if (rel == null || rel.equals("alternate")) {
+                                    item.set("link", reader.getAttributeValue(null, "href"));
+                                }
+                            } else {
+                                field = name;
+                                fieldDepth = 0;
+                                text.setLength(0);
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                        if (field != null) {
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        String name = reader.getLocalName();
+                        if (field != null) {
+                            if (fieldDepth > 0) {
+                                fieldDepth--;
+                            } else {
+                                item.set(field, text.toString().trim());
+                                field = null;
+                            }
+                        } else if (item != null && (name.equals("item") || name.equals("entry"))) {
+                            items.add(item.build(source));
+                            item = null;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+
+    /**
+     * 접두사 없는 항목 필드만 사용 (media:title 등 확장 요소 제외), dc:date는 예외
+     */
+    private static boolean isItemField(XMLStreamReader reader, String name) {
+        String prefix = reader.getPrefix();
+        boolean unprefixed = prefix == null || prefix.isEmpty();
+        return switch (name) {
+            case "title", "link", "description", "summary", "pubDate", "updated", "published" -> unprefixed;
+            case "date" -> "dc".equals(prefix);
+            default -> false;
+        };
+    }
+
+    /**
+     * HTML 태그 제거 후 앞뒤 공백 정리, 200자 초과 시 말줄임
+     * 정규식 없이 한 번 훑으며, 잘라낼 길이를 채운 뒤에는 공백이 아닌 글자가 더 있는지만 확인
+     */
+    public static String stripHtml(String html) {
+        StringBuilder out = new StringBuilder(Math.min(html.length(), MAX_DESCRIPTION_LENGTH));
+        boolean inTag = false;
+        boolean truncated = false;
+        for (int i = 0; i < html.length(); i++) {
+            char c = html.charAt(i);
+            if (inTag) {
+                if (c == '>') inTag = false;
+            } else if (c == '<') {
+                inTag = true;
+            } else if (out.length() == MAX_DESCRIPTION_LENGTH) {
+                // 뒤따르는 공백만 있으면 말줄임 없이 정리
+                if (!Character.isWhitespace(c)) {
+                    truncated = true;
+                    break;
+                }
+            } else if (out.length() > 0 || !Character.isWhitespace(c)) {
+                out.append(c);
+            }
+        }
+
+        return truncated ? out + "..." : out.toString().trim();
+    }
+
+    /**
+     * 항목 필드 수집 (같은 필드는 처음 값만 사용)
+     */
+    private static final class ItemBuilder {
+        private String title;
+        private String link;
+        private String description;
+        private String summary;
+        private String pubDate;
+        private String updated;
+        private String published;
+        private String date;
+
+        boolean has(String field) {
+            return get(field) != null;
+        }
+
+        private String get(String field) {
+            return switch (field) {
+                case "title" -> title;
+                case "link" -> link;
+                case "description" -> description;
+                case "summary" -> summary;
+                case "pubDate" -> pubDate;
+                case "updated" -> updated;
+                case "published" -> published;
+                case "date" -> date;
+                default -> null;
+            };
+        }
+
+        void set(String field, String value) {
+            switch (field) {
+                case "title" -> title = value;
+                case "link" -> link = value;
+                case "description" -> description = value;
+                case "summary" -> summary = value;
+                case "pubDate" -> pubDate = value;
+                case "updated" -> updated = value;
+                case "published" -> published = value;
+                case "date" -> date = value;
+                default -> {
+                }
+            }
+        }
+
+        RssItem build(String source) {
+            String text = firstNonEmpty(description, summary);
+            return new RssItem(
+                    firstNonEmpty(title),
+                    firstNonEmpty(link),
+                    stripHtml(text),
+                    firstNonEmpty(pubDate, updated, published, date),
+                    source
+            );
+        }
+
+        private static String firstNonEmpty(String... values) {
+            for (String value : values) {
+                if (value != null && !value.isEmpty()) {
+                    return value;
+                }
+            }
+            return "";
+        }
+    }
+}
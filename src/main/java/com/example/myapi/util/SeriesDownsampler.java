@@ -0,0 +1,91 @@
+package com.example.myapi.util;
+
+import com.example.myapi.dto.system.SystemHistoryPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LTTB(Largest-Triangle-Three-Buckets) 다운샘플링
+ * - 첫/마지막 포인트는 유지하고, 나머지를 (maxPoints - 2)개 구간으로 나눠 구간마다 삼각형 면적이 가장 큰 포인트 선택
+ * - 면적은 CPU/메모리/힙 사용률 세 지표의 면적 합으로 계산 (세 선의 모양을 함께 보존)
+ */
+public final class SeriesDownsampler {
+
+    private SeriesDownsampler() {
+    }
+
+    public static List<SystemHistoryPoint> lttb(List<SystemHistoryPoint> points, int maxPoints) {
+        int size = points.size();
+        if (maxPoints >= size || maxPoints < 3) {
+            return points;
+        }
+
+        List<SystemHistoryPoint> sampled = new ArrayList<>(maxPoints);
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+        int selected = 0;
+        sampled.add(points.get(0));
+
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = Math.min((int) Math.floor((bucket + 1) * bucketSize) + 1, size - 1);
+
+            // 다음 구간 평균 (마지막 구간이면 마지막 포인트)
+            int nextStart = end;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double[] avgY = new double[3];
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += x(points.get(i));
+                accumulate(avgY, points.get(i));
+            }
+            int count = Math.max(nextEnd - nextStart, 1);
+            avgX /= count;
+            for (int m = 0; m < avgY.length; m++) {
+                avgY[m] /= count;
+            }
+
+            SystemHistoryPoint anchor = points.get(selected);
+            double anchorX = x(anchor);
+            double[] anchorY = values(anchor);
+
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int i = start; i < end; i++) {
+                SystemHistoryPoint candidate = points.get(i);
+                double candidateX = x(candidate);
+                double[] candidateY = values(candidate);
+                double area = 0;
+                for (int m = 0; m < 3; m++) {
+                    area += Math.abs((anchorX - avgX) * (candidateY[m] - anchorY[m])
+                            - (anchorX - candidateX) * (avgY[m] - anchorY[m]));
+                }
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+            sampled.add(points.get(maxIndex));
+            selected = maxIndex;
+        }
+
+        sampled.add(points.get(size - 1));
+        return sampled;
+    }
+
+    private static double x(SystemHistoryPoint point) {
+        return point.timestamp().toEpochMilli();
+    }
+
+    private static double[] values(SystemHistoryPoint point) {
+        double[] y = new double[3];
+        accumulate(y, point);
+        return y;
+    }
+
+    private static void accumulate(double[] y, SystemHistoryPoint point) {
+        y[0] += point.cpuAvg() != null ? point.cpuAvg() : 0;
+        y[1] += point.memoryAvg() != null ? point.memoryAvg() : 0;
+        y[2] += point.heapAvg() != null ? point.heapAvg() : 0;
+    }
+}
@@ -5,11 +5,15 @@
 import { 
     userId, config, setConfig, eventSource, setEventSource, 
     reconnectAttempts, setReconnectAttempts, MAX_RECONNECT_ATTEMPTS,
-    setStocksData, setWeatherData, setYahooNewsData, setYonhapNewsData
+    stocksData, setStocksData, setWeatherData, setYahooNewsData, setYonhapNewsData
 } from './state.js';
 import { showToast } from './ui.js';
 import { formatSectionTime } from './utils.js';
 
+// Version of the last applied dashboard snapshot (dashboard-delta events are applied against it)
+let dashboardVersion = null;
+let resyncPending = false;
+
 // Feature modules will be imported dynamically to avoid circular dependencies
 let renderStocks, renderWeather, renderNews, renderSystem;
 
@@ -80,6 +84,8 @@ export function connectSSE() {
         eventSource.close();
     }
 
+    dashboardVersion = null;
+    resyncPending = false;
     updateConnectionStatus('connecting');
     // EventSource는 헤더를 설정할 수 없으므로 쿼리 파라미터로 userId 전달
     const currentUserId = userId; // userId가 변경되지 않도록 현재 값 저장
@@ -99,9 +105,22 @@ export function connectSSE() {
         if (data.stocks && data.stocks.quotes) {
             console.log('[SSE] Stocks quotes received:', data.stocks.quotes.length, 'items');
         }
+        dashboardVersion = data.version ?? null;
+        resyncPending = false;
         handleDashboardData(data);
     });
 
+    newEventSource.addEventListener('dashboard-delta', (event) => {
+        const delta = JSON.parse(event.data);
+        if (dashboardVersion === null || delta.baseVersion !== dashboardVersion) {
+            console.log('[SSE] Dashboard version gap:', dashboardVersion, '->', delta.baseVersion);
+            requestResync();
+            return;
+        }
+        dashboardVersion = delta.version;
+        handleDashboardDelta(delta);
+    });
+
     newEventSource.addEventListener('system', (event) => {
         const data = JSON.parse(event.data);
         if (data.system) {
@@ -162,6 +181,46 @@ function handleDashboardData(data) {
     }
 }
 
+/**
+ * Apply a dashboard-delta event: only changed sections and changed quote fields are present
+ */
+function handleDashboardDelta(delta) {
+    if (delta.stocks) {
+        setStocksData(delta.stocks);
+        renderStocks();
+    } else if (delta.quotes?.length && stocksData) {
+        const changes = new Map(delta.quotes.map(q => [q.symbol, q]));
+        setStocksData({
+            quotes: (stocksData.quotes || []).map(q => changes.has(q.symbol) ? { ...q, ...changes.get(q.symbol) } : q),
+            fetchedAt: delta.stocksFetchedAt ?? stocksData.fetchedAt
+        });
+        renderStocks();
+    }
+    handleDashboardData({
+        weather: delta.weather,
+        news: delta.news,
+        system: delta.system,
+        timestamp: delta.timestamp
+    });
+}
+
+/**
+ * Ask the server for a full snapshot after a version gap (at most one in flight)
+ */
+async function requestResync() {
+    if (resyncPending) return;
+    resyncPending = true;
+    try {
+        await fetch('/api/dashboard/resync', {
+            method: 'POST',
+            headers: { 'X-User-Id': userId }
+        });
+    } catch (error) {
+        console.error('[SSE] Dashboard resync failed:', error);
+        resyncPending = false;
+    }
+}
+
 /**
  * Update connection status UI
  */
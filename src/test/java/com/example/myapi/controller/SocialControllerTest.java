@@ -0,0 +1,36 @@
+package com.example.myapi.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SocialControllerTest {
+
+    @Test
+    void gzipIsAcceptedWithPositiveQuality() {
+        assertTrue(SocialController.acceptsGzip("gzip, deflate, br"));
+        assertTrue(SocialController.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(SocialController.acceptsGzip("x-gzip"));
+    }
+
+    @Test
+    void zeroQualityRefusesGzip() {
+        assertFalse(SocialController.acceptsGzip("gzip;q=0"));
+        assertFalse(SocialController.acceptsGzip("deflate, gzip ; q=0.000"));
+        assertFalse(SocialController.acceptsGzip("*, gzip;q=0"));
+    }
+
+    @Test
+    void wildcardAppliesWhenGzipIsNotListed() {
+        assertTrue(SocialController.acceptsGzip("*"));
+        assertFalse(SocialController.acceptsGzip("br, *;q=0"));
+        assertFalse(SocialController.acceptsGzip("identity"));
+        assertFalse(SocialController.acceptsGzip(null));
+    }
+
+    @Test
+    void gzipVariantHasDistinctEtag() {
+        assertEquals("\"abc123-gz\"", SocialController.gzipEtag("\"abc123\""));
+        assertEquals("W/\"abc123-gz\"", SocialController.gzipEtag("W/\"abc123\""));
+    }
+}
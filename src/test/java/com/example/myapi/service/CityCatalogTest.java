@@ -0,0 +1,87 @@
+package com.example.myapi.service;
+
+import com.example.myapi.config.OpenWeatherProperties;
+import com.example.myapi.service.CityCatalog.NearestCity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CityCatalogTest {
+
+    private static final String CSV = """
+            name,name_ko,country,lat,lon,weather
+            Seoul,서울,KR,37.5665,126.9780,true
+            Busan,부산,KR,35.1796,129.0756,false
+            Tokyo,도쿄,JP,35.6762,139.6503,true
+            Suva,수바,FJ,-18.1248,178.4501,false
+            Apia,아피아,WS,-13.8506,-171.7513,false
+            Honolulu,호놀룰루,US,21.3069,-157.8583,true
+            """;
+
+    private Path csv;
+    private CityCatalog catalog;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        csv = Files.createTempFile("cities", ".csv");
+        Files.writeString(csv, CSV, StandardCharsets.UTF_8);
+        OpenWeatherProperties properties = new OpenWeatherProperties();
+        properties.setCityCatalog("file:" + csv.toAbsolutePath());
+        catalog = new CityCatalog(new DefaultResourceLoader(), properties);
+        catalog.reload();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(csv);
+    }
+
+    @Test
+    void loadsCatalogAndWeatherCities() {
+        assertEquals(6, catalog.cities().size());
+        assertEquals(3, catalog.weatherCities().size());
+        assertEquals("Seoul", catalog.findByName("서울").orElseThrow().name());
+        assertEquals("Busan", catalog.findByName(" busan ").orElseThrow().name());
+    }
+
+    @Test
+    void exactCoordinatesReturnThatCity() {
+        NearestCity nearest = catalog.nearest(37.5665, 126.9780).orElseThrow();
+
+        assertEquals("Seoul", nearest.city().name());
+        assertEquals(0.0, nearest.distanceKm(), 1e-6);
+    }
+
+    @Test
+    void nearestAcrossAntimeridian() {
+        // 서경 179.5도: 경도 차이만 보면 아피아(-171.75)가 가깝지만 실제로는 날짜변경선 너머 수바가 가까움
+        NearestCity nearest = catalog.nearest(-17.0, -179.5).orElseThrow();
+
+        assertEquals("Suva", nearest.city().name());
+        assertTrue(nearest.distanceKm() < 300, "distance " + nearest.distanceKm());
+    }
+
+    @Test
+    void weatherLookupSkipsCitiesWithoutWeatherRefresh() {
+        // 부산 좌표: 전체 기준은 부산, 날씨 갱신 도시 중에서는 서울
+        assertEquals("Busan", catalog.nearest(35.1796, 129.0756).orElseThrow().city().name());
+
+        NearestCity weather = catalog.nearestWeatherCity(35.1796, 129.0756).orElseThrow();
+        assertEquals("Seoul", weather.city().name());
+        assertEquals(325, weather.distanceKm(), 10);
+    }
+
+    @Test
+    void weatherLookupAcrossAntimeridian() {
+        // 피지 근처에서 날씨 갱신 도시 중 가장 가까운 곳은 호놀룰루 (서울/도쿄보다 가까움)
+        assertEquals("Honolulu", catalog.nearestWeatherCity(-17.0, -179.5).orElseThrow().city().name());
+    }
+}
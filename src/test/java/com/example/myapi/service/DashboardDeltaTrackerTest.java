@@ -0,0 +1,193 @@
+package com.example.myapi.service;
+
+import com.example.myapi.config.SseProperties;
+import com.example.myapi.dto.dashboard.DashboardData.NewsData;
+import com.example.myapi.dto.dashboard.DashboardData.NewsItem;
+import com.example.myapi.dto.dashboard.DashboardData.StockQuote;
+import com.example.myapi.dto.dashboard.DashboardData.StocksData;
+import com.example.myapi.dto.dashboard.DashboardData.SystemData;
+import com.example.myapi.dto.dashboard.DashboardData.WeatherData;
+import com.example.myapi.dto.dashboard.DashboardDelta;
+import com.example.myapi.service.DashboardDeltaTracker.Snapshot;
+import com.example.myapi.sse.SseConnection;
+import com.example.myapi.sse.SseDispatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DashboardDeltaTrackerTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-15T14:30:00Z");
+    private static final Instant T1 = T0.plusSeconds(30);
+    private static final SystemData SYSTEM = new SystemData(10, 50, 4, 8, 25, 1, 4, 30, 2, 5, 1000);
+
+    private final DashboardDeltaTracker tracker = new DashboardDeltaTracker();
+
+    @Test
+    void unchangedSectionsAreOmitted() {
+        Snapshot base = snapshot(1, stocks(T0, quote("AAPL", 190.0)), weather(-1.0), news("a"));
+        Snapshot current = snapshot(2, stocks(T1, quote("AAPL", 190.0)), weather(-1.0), news("a"));
+
+        DashboardDelta delta = tracker.diff(base, current, SYSTEM);
+
+        assertEquals(2, delta.version());
+        assertEquals(1, delta.baseVersion());
+        assertNull(delta.stocks());
+        assertTrue(delta.quotes().isEmpty());
+        assertEquals(T1, delta.stocksFetchedAt());
+        assertNull(delta.weather());
+        assertNull(delta.news());
+        assertSame(SYSTEM, delta.system());
+    }
+
+    @Test
+    void changedQuoteCarriesOnlyChangedFields() {
+        Snapshot base = snapshot(1, stocks(T0, quote("AAPL", 190.0), quote("MSFT", 400.0)), weather(-1.0), news("a"));
+        Snapshot current = snapshot(2, stocks(T1, quote("AAPL", 191.5), quote("MSFT", 400.0)), weather(-1.0), news("a"));
+
+        DashboardDelta delta = tracker.diff(base, current, SYSTEM);
+
+        assertNull(delta.stocks());
+        assertEquals(1, delta.quotes().size());
+        Map<String, Object> change = delta.quotes().get(0);
+        assertEquals("AAPL", change.get("symbol"));
+        assertEquals(191.5, change.get("currentPrice"));
+        assertEquals(1.5, change.get("change"));
+        assertFalse(change.containsKey("previousClose"));
+        assertFalse(change.containsKey("openPrice"));
+    }
+
+    @Test
+    void addedOrRemovedTickerSendsWholeStocksSection() {
+        Snapshot base = snapshot(1, stocks(T0, quote("AAPL", 190.0), quote("MSFT", 400.0)), weather(-1.0), news("a"));
+        Snapshot added = snapshot(2, stocks(T1, quote("AAPL", 190.0), quote("MSFT", 400.0), quote("NVDA", 500.0)),
+                weather(-1.0), news("a"));
+        Snapshot removed = snapshot(3, stocks(T1, quote("AAPL", 190.0)), weather(-1.0), news("a"));
+
+        DashboardDelta addedDelta = tracker.diff(base, added, SYSTEM);
+        assertSame(added.stocks(), addedDelta.stocks());
+        assertNull(addedDelta.quotes());
+
+        DashboardDelta removedDelta = tracker.diff(base, removed, SYSTEM);
+        assertSame(removed.stocks(), removedDelta.stocks());
+        assertNull(removedDelta.quotes());
+    }
+
+    @Test
+    void changedWeatherAndNewsAreSentWhole() {
+        Snapshot base = snapshot(1, stocks(T0, quote("AAPL", 190.0)), weather(-1.0), news("a"));
+        Snapshot current = snapshot(2, stocks(T1, quote("AAPL", 190.0)), weather(2.5), news("a", "b"));
+
+        DashboardDelta delta = tracker.diff(base, current, SYSTEM);
+
+        assertEquals(current.weather(), delta.weather());
+        assertEquals(current.news(), delta.news());
+    }
+
+    @Test
+    void weatherWarmingIsSentOnlyWhenItChanges() {
+        Snapshot warming = snapshot(1, stocks(T0), List.of(), true, news("a"));
+        Snapshot stillWarming = snapshot(2, stocks(T1), List.of(), true, news("a"));
+        Snapshot ready = snapshot(3, stocks(T1), weather(-1.0), false, news("a"));
+
+        assertNull(tracker.diff(warming, stillWarming, SYSTEM).weatherWarming());
+        DashboardDelta delta = tracker.diff(warming, ready, SYSTEM);
+        assertEquals(Boolean.FALSE, delta.weatherWarming());
+        assertEquals(ready.weather(), delta.weather());
+    }
+
+    @Test
+    void newsFetchedAtAloneIsNotAChange() {
+        NewsData before = new NewsData(List.of(item("a")), List.of(), T0);
+        NewsData after = new NewsData(List.of(item("a")), List.of(), T1);
+
+        DashboardDelta delta = tracker.diff(
+                snapshot(1, stocks(T0), weather(-1.0), before),
+                snapshot(2, stocks(T1), weather(-1.0), after),
+                SYSTEM);
+
+        assertNull(delta.news());
+    }
+
+    @Test
+    void resetForcesFullSnapshotOnNextBroadcast() {
+        SseDispatcher dispatcher = new SseDispatcher(new SseProperties());
+        try {
+            SseConnection connection = dispatcher.register(new SseEmitter(), "user-1");
+            assertNull(tracker.lastSent(connection));
+
+            Snapshot sent = snapshot(tracker.nextVersion(), stocks(T0), weather(-1.0), news("a"));
+            tracker.recordSent(connection, sent);
+            assertSame(sent, tracker.lastSent(connection));
+
+            tracker.reset(connection);
+            assertNull(tracker.lastSent(connection));
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void deltaCacheSeparatesTargetsThatShareABase() {
+        // 두 연결이 같은 base를 받았지만 그 사이 한 사용자의 티커 구성이 바뀜
+        Snapshot base = snapshot(1, stocks(T0, quote("AAPL", 190.0), quote("MSFT", 400.0)), weather(-1.0), news("a"));
+        Snapshot sameTickers = snapshot(2, stocks(T1, quote("AAPL", 191.0), quote("MSFT", 400.0)), weather(-1.0), news("a"));
+        Snapshot changedTickers = snapshot(3, stocks(T1, quote("AAPL", 191.0)), weather(-1.0), news("a"));
+
+        DashboardDeltaTracker.DeltaCache cache = new DashboardDeltaTracker.DeltaCache();
+        byte[] first = new byte[]{1};
+        cache.put(base, sameTickers, first);
+
+        assertSame(first, cache.get(base, sameTickers));
+        assertNull(cache.get(base, changedTickers));
+
+        DashboardDelta forChanged = tracker.diff(base, changedTickers, SYSTEM);
+        assertSame(changedTickers.stocks(), forChanged.stocks());
+        assertEquals(3, forChanged.version());
+        byte[] second = new byte[]{2};
+        cache.put(base, changedTickers, second);
+        assertSame(first, cache.get(base, sameTickers));
+        assertSame(second, cache.get(base, changedTickers));
+    }
+
+    @Test
+    void versionsIncrease() {
+        long first = tracker.nextVersion();
+        assertTrue(tracker.nextVersion() > first);
+    }
+
+    private static Snapshot snapshot(long version, StocksData stocks, List<WeatherData> weather, NewsData news) {
+        return snapshot(version, stocks, weather, false, news);
+    }
+
+    private static Snapshot snapshot(long version, StocksData stocks, List<WeatherData> weather, boolean weatherWarming,
+                                     NewsData news) {
+        return new Snapshot(version, stocks, weather, weatherWarming, news);
+    }
+
+    private static StocksData stocks(Instant fetchedAt, StockQuote... quotes) {
+        return new StocksData(List.of(quotes), fetchedAt);
+    }
+
+    private static StockQuote quote(String symbol, double price) {
+        return new StockQuote(symbol, symbol + " Inc.", price, price - 190.0, 0.1, price + 1, price - 1, 189.0, 190.0);
+    }
+
+    private static List<WeatherData> weather(double temperature) {
+        return List.of(new WeatherData("Seoul", "서울", temperature, 40, "Clear", "01d", 0, 1.2, T0, T0));
+    }
+
+    private static NewsData news(String... titles) {
+        return new NewsData(Arrays.stream(titles).map(DashboardDeltaTrackerTest::item).toList(), List.of(), T0);
+    }
+
+    private static NewsItem item(String title) {
+        return new NewsItem(title, "https://example.com/" + title, "Yahoo", "Mon, 15 Jan 2024 14:00:00 GMT");
+    }
+}
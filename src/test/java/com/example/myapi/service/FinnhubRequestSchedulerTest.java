@@ -0,0 +1,132 @@
+package com.example.myapi.service;
+
+import com.example.myapi.service.FinnhubRequestScheduler.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FinnhubRequestSchedulerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private long now = 0;
+    private final List<Runnable> wakeups = new ArrayList<>();
+    private final List<Long> wakeupDelays = new ArrayList<>();
+    private final List<String> executed = new ArrayList<>();
+
+    // 호출은 디스패치 스레드에서 바로 실행, 타이머는 기록만 하고 테스트가 직접 깨움
+    private FinnhubRequestScheduler scheduler(double ratePerSecond, long callTimeoutMs) {
+        return new FinnhubRequestScheduler(ratePerSecond, callTimeoutMs, () -> now, Runnable::run,
+                (wakeup, delayNanos) -> {
+                    wakeups.add(wakeup);
+                    wakeupDelays.add(delayNanos);
+                });
+    }
+
+    @Test
+    void tokenBucketAllowsBurstUpToRateThenSchedulesWakeup() {
+        FinnhubRequestScheduler scheduler = scheduler(2, 1000);
+
+        CompletableFuture<String> first = scheduler.submit(Priority.REFRESH, () -> run("a"));
+        CompletableFuture<String> second = scheduler.submit(Priority.REFRESH, () -> run("b"));
+        CompletableFuture<String> third = scheduler.submit(Priority.REFRESH, () -> run("c"));
+
+        assertEquals("a", first.join());
+        assertEquals("b", second.join());
+        assertFalse(third.isDone());
+        assertEquals(1, scheduler.pendingCounts().get(Priority.REFRESH).intValue());
+        // 초당 2개이므로 다음 토큰은 0.5초 뒤
+        assertEquals(List.of(SECOND / 2), wakeupDelays);
+    }
+
+    @Test
+    void timerWakeupDispatchesOnceTokenRefills() {
+        FinnhubRequestScheduler scheduler = scheduler(2, 1000);
+        scheduler.submit(Priority.REFRESH, () -> run("a"));
+        scheduler.submit(Priority.REFRESH, () -> run("b"));
+        CompletableFuture<String> third = scheduler.submit(Priority.REFRESH, () -> run("c"));
+
+        now += SECOND / 2;
+        fireWakeup();
+
+        assertEquals("c", third.join());
+        assertEquals(0, scheduler.pendingCounts().get(Priority.REFRESH).intValue());
+        // 남은 호출이 없으면 다시 예약하지 않음
+        assertTrue(wakeups.isEmpty());
+    }
+
+    @Test
+    void higherLaneIsServedFirst() {
+        FinnhubRequestScheduler scheduler = scheduler(1, 1000);
+        scheduler.submit(Priority.REFRESH, () -> run("warm"));
+
+        scheduler.submit(Priority.METADATA, () -> run("metadata"));
+        scheduler.submit(Priority.REFRESH, () -> run("refresh"));
+        scheduler.submit(Priority.INTERACTIVE, () -> run("interactive"));
+        for (int i = 0; i < 3; i++) {
+            now += SECOND;
+            fireWakeup();
+        }
+
+        assertEquals(List.of("warm", "interactive", "refresh", "metadata"), executed);
+    }
+
+    @Test
+    void overdueLowerLaneIsNotStarvedByConstantInteractiveLoad() {
+        FinnhubRequestScheduler scheduler = scheduler(1, 1000);
+        scheduler.submit(Priority.INTERACTIVE, () -> run("warm"));
+        CompletableFuture<String> metadata = scheduler.submit(Priority.METADATA, () -> run("metadata"));
+
+        // 매초 INTERACTIVE 호출이 들어와 토큰을 모두 가져가는 상황
+        for (int i = 1; i <= 5; i++) {
+            now += SECOND;
+            int index = i;
+            scheduler.submit(Priority.INTERACTIVE, () -> run("interactive-" + index));
+        }
+
+        assertEquals("metadata", metadata.join());
+        assertEquals(List.of("warm", "interactive-1", "interactive-2", "interactive-3", "interactive-4",
+                "metadata"), executed);
+        assertEquals(1, scheduler.pendingCounts().get(Priority.INTERACTIVE).intValue());
+    }
+
+    @Test
+    void callTimesOutAndCancelsPendingCall() {
+        FinnhubRequestScheduler scheduler = scheduler(1, 100);
+        scheduler.submit(Priority.INTERACTIVE, () -> run("warm"));
+
+        assertThrows(IllegalStateException.class, () -> scheduler.call(Priority.METADATA, () -> run("late")));
+        assertEquals(0, scheduler.pendingCounts().get(Priority.METADATA).intValue());
+
+        // 취소된 호출은 토큰이 생겨도 실행되지 않음
+        now += SECOND;
+        fireWakeup();
+        assertEquals(List.of("warm"), executed);
+    }
+
+    @Test
+    void callRethrowsRuntimeExceptionFromCall() {
+        FinnhubRequestScheduler scheduler = scheduler(1, 1000);
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                () -> scheduler.call(Priority.METADATA, () -> {
+                    throw new IllegalArgumentException("bad symbol");
+                }));
+        assertEquals("bad symbol", thrown.getMessage());
+    }
+
+    private String run(String name) {
+        executed.add(name);
+        return name;
+    }
+
+    private void fireWakeup() {
+        assertFalse(wakeups.isEmpty());
+        wakeups.remove(0).run();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.myapi.service;
+
+import com.example.myapi.config.MarketHoursProperties;
+import com.example.myapi.service.MarketSessionCalendar.MarketSession;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarketSessionCalendarTest {
+
+    private final MarketHoursProperties properties = new MarketHoursProperties();
+    private final MarketSessionCalendar calendar = new MarketSessionCalendar(properties);
+
+    // 2024-01-16 (화), 뉴욕 EST = UTC-5
+
+    @Test
+    void overnightIsClosed() {
+        assertEquals(MarketSession.CLOSED, session("2024-01-16T08:59:59Z"));   // 03:59 ET
+        assertEquals(MarketSession.CLOSED, session("2024-01-17T01:00:00Z"));   // 20:00 ET
+    }
+
+    @Test
+    void preMarket() {
+        assertEquals(MarketSession.PRE_MARKET, session("2024-01-16T09:00:00Z"));   // 04:00 ET
+        assertEquals(MarketSession.PRE_MARKET, session("2024-01-16T14:29:59Z"));   // 09:29 ET
+    }
+
+    @Test
+    void regularSession() {
+        assertEquals(MarketSession.REGULAR, session("2024-01-16T14:30:00Z"));   // 09:30 ET
+        assertEquals(MarketSession.REGULAR, session("2024-01-16T20:59:59Z"));   // 15:59 ET
+    }
+
+    @Test
+    void afterHours() {
+        assertEquals(MarketSession.AFTER_HOURS, session("2024-01-16T21:00:00Z"));   // 16:00 ET
+        assertEquals(MarketSession.AFTER_HOURS, session("2024-01-17T00:59:59Z"));   // 19:59 ET
+    }
+
+    @Test
+    void weekendIsClosed() {
+        assertEquals(MarketSession.CLOSED, session("2024-01-13T15:00:00Z"));   // 토 10:00 ET
+        assertEquals(MarketSession.CLOSED, session("2024-01-14T15:00:00Z"));   // 일 10:00 ET
+        assertFalse(calendar.isTradingDay(LocalDate.of(2024, 1, 13)));
+    }
+
+    @Test
+    void regularHolidaysAreClosed() {
+        assertEquals(MarketSession.CLOSED, session("2024-01-15T15:00:00Z"));   // Martin Luther King Jr. Day
+        assertFalse(calendar.isTradingDay(LocalDate.of(2024, 3, 29)));          // Good Friday
+        assertFalse(calendar.isTradingDay(LocalDate.of(2024, 11, 28)));         // Thanksgiving
+        assertFalse(calendar.isTradingDay(LocalDate.of(2024, 12, 25)));         // Christmas
+    }
+
+    @Test
+    void weekendHolidaysAreObservedOnNearestWeekday() {
+        assertFalse(calendar.isTradingDay(LocalDate.of(2026, 7, 3)));    // 7/4 토 → 금요일 휴장
+        assertFalse(calendar.isTradingDay(LocalDate.of(2027, 6, 18)));   // 6/19 토 → 금요일 휴장
+        assertFalse(calendar.isTradingDay(LocalDate.of(2023, 1, 2)));    // 1/1 일 → 월요일 휴장
+        // 신정이 토요일이면 전년도 12/31에 휴장하지 않음
+        assertTrue(calendar.isTradingDay(LocalDate.of(2021, 12, 31)));
+    }
+
+    @Test
+    void earlyCloseDayIsTreatedAsRegular() {
+        // 2024-11-29 추수감사절 다음날 (13:00 조기 폐장)
+        assertTrue(calendar.isTradingDay(LocalDate.of(2024, 11, 29)));
+        assertEquals(MarketSession.REGULAR, session("2024-11-29T19:00:00Z"));   // 14:00 ET
+    }
+
+    @Test
+    void extraHolidayFromConfigIsClosed() {
+        properties.setExtraHolidays(List.of(LocalDate.of(2025, 1, 9)));
+        assertEquals(MarketSession.CLOSED, session("2025-01-09T15:00:00Z"));
+        assertEquals(MarketSession.REGULAR, session("2025-01-10T15:00:00Z"));
+    }
+
+    @Test
+    void sessionBoundariesFollowDaylightSavingTime() {
+        // 2024-03-10 서머타임 시작: 금요일은 EST(UTC-5), 월요일은 EDT(UTC-4)
+        assertEquals(MarketSession.PRE_MARKET, session("2024-03-08T14:29:00Z"));
+        assertEquals(MarketSession.REGULAR, session("2024-03-08T14:30:00Z"));
+        assertEquals(MarketSession.PRE_MARKET, session("2024-03-11T13:29:00Z"));
+        assertEquals(MarketSession.REGULAR, session("2024-03-11T13:30:00Z"));
+        assertEquals(MarketSession.AFTER_HOURS, session("2024-03-11T20:00:00Z"));
+
+        // 2024-11-03 서머타임 종료: 월요일은 다시 EST
+        assertEquals(MarketSession.PRE_MARKET, session("2024-11-04T14:00:00Z"));
+        assertEquals(MarketSession.REGULAR, session("2024-11-04T14:30:00Z"));
+    }
+
+    private MarketSession session(String instant) {
+        return calendar.sessionAt(Instant.parse(instant));
+    }
+}
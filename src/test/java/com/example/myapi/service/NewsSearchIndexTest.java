@@ -0,0 +1,118 @@
+package com.example.myapi.service;
+
+import com.example.myapi.dto.news.NewsSearchHit;
+import com.example.myapi.dto.news.NewsSearchResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NewsSearchIndexTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-15T14:00:00Z");
+
+    private final NewsSearchIndex index = new NewsSearchIndex();
+
+    @Test
+    void hangulIsSplitIntoBigrams() {
+        assertEquals(List.of("삼성", "성전", "전자"), NewsSearchIndex.tokenize("삼성전자"));
+        assertEquals(List.of("주", "상승"), NewsSearchIndex.tokenize("주 상승"));
+    }
+
+    @Test
+    void otherScriptsAreLowercasedWords() {
+        assertEquals(List.of("apple", "q4", "실적"), NewsSearchIndex.tokenize("Apple Q4, 실적!"));
+        assertEquals(List.of("nvidia", "주가"), NewsSearchIndex.tokenize("NVIDIA주가"));
+    }
+
+    @Test
+    void koreanQueryMatchesBigramsInsideLongerWords() {
+        index.upsert("db:1", "db", "삼성전자 실적 발표", "", null, "DB", T0);
+        index.upsert("db:2", "db", "LG전자 신제품", "", null, "DB", T0);
+
+        assertEquals(List.of("db:1"), keys(index.search("삼성", null, 0, 10)));
+        assertEquals(2, index.search("전자", null, 0, 10).total());
+    }
+
+    @Test
+    void allQueryTermsMustMatch() {
+        index.upsert("rss:1", "rss", "Apple earnings beat", "", null, "Yahoo", T0);
+        index.upsert("rss:2", "rss", "Apple stock falls", "", null, "Yahoo", T0);
+
+        assertEquals(List.of("rss:1"), keys(index.search("apple EARNINGS", null, 0, 10)));
+        assertEquals(0, index.search("apple missing", null, 0, 10).total());
+    }
+
+    @Test
+    void titleMatchOutranksBodyMatch() {
+        index.upsert("rss:1", "rss", "Market wrap", "apple mentioned in body", null, "Yahoo", T0);
+        index.upsert("rss:2", "rss", "Apple unveils headset", "", null, "Yahoo", T0);
+
+        assertEquals(List.of("rss:2", "rss:1"), keys(index.search("apple", null, 0, 10)));
+    }
+
+    @Test
+    void rarerTermWeighsMoreThanCommonTerm() {
+        // apple은 4건 모두, tesla는 2건에만 있으므로 tesla 빈도가 높은 문서가 위
+        index.upsert("rss:1", "rss", "Stocks", "apple apple apple tesla", null, "Yahoo", T0);
+        index.upsert("rss:2", "rss", "Stocks", "apple tesla tesla tesla", null, "Yahoo", T0);
+        index.upsert("rss:3", "rss", "Stocks", "apple", null, "Yahoo", T0);
+        index.upsert("rss:4", "rss", "Stocks", "apple", null, "Yahoo", T0);
+
+        NewsSearchResponse response = index.search("apple tesla", null, 0, 10);
+        assertEquals(List.of("rss:2", "rss:1"), keys(response));
+        assertTrue(response.items().get(0).score() > response.items().get(1).score());
+    }
+
+    @Test
+    void equalScoresAreOrderedNewestFirst() {
+        index.upsert("rss:1", "rss", "코스피 마감", "", null, "Yahoo", T0);
+        index.upsert("rss:2", "rss", "코스피 마감", "", null, "Yahoo", T0.plusSeconds(60));
+
+        assertEquals(List.of("rss:2", "rss:1"), keys(index.search("코스피", null, 0, 10)));
+    }
+
+    @Test
+    void upsertReplacesAndRemoveDropsDocument() {
+        index.upsert("rss:1", "rss", "Old title", "", null, "Yahoo", T0);
+        index.upsert("rss:1", "rss", "New title", "", null, "Yahoo", T0);
+
+        assertEquals(0, index.search("old", null, 0, 10).total());
+        assertEquals(List.of("rss:1"), keys(index.search("new", null, 0, 10)));
+
+        index.remove("rss:1");
+        index.remove("rss:missing");
+        assertEquals(0, index.search("new", null, 0, 10).total());
+        assertEquals(0, index.getStatus().get("documents"));
+        assertEquals(0, index.getStatus().get("terms"));
+    }
+
+    @Test
+    void typeFilterAndPaging() {
+        for (int i = 0; i < 5; i++) {
+            index.upsert("rss:" + i, "rss", "Fed rate decision", "", null, "Yahoo", T0.plusSeconds(i));
+        }
+        index.upsert("db:1", "db", "Fed rate decision", "", null, "DB", T0);
+
+        assertEquals(1, index.search("fed", "db", 0, 10).total());
+        NewsSearchResponse second = index.search("fed", "rss", 1, 2);
+        assertEquals(5, second.total());
+        assertEquals(List.of("rss:2", "rss:1"), keys(second));
+    }
+
+    @Test
+    void hugePageIsEmptyInsteadOfOverflowing() {
+        index.upsert("rss:1", "rss", "Fed rate decision", "", null, "Yahoo", T0);
+
+        NewsSearchResponse response = index.search("fed", null, Integer.MAX_VALUE, 100);
+
+        assertEquals(1, response.total());
+        assertTrue(response.items().isEmpty());
+    }
+
+    private static List<String> keys(NewsSearchResponse response) {
+        return response.items().stream().map(NewsSearchHit::id).toList();
+    }
+}
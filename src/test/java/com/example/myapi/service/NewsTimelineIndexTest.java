@@ -0,0 +1,69 @@
+package com.example.myapi.service;
+
+import com.example.myapi.dto.rss.NewsTimelineItem;
+import com.example.myapi.dto.rss.RssItem;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NewsTimelineIndexTest {
+
+    private static final Instant BASE = Instant.parse("2024-01-15T00:00:00Z");
+
+    private final NewsTimelineIndex index = new NewsTimelineIndex();
+
+    @Test
+    void duplicatesAreSkipped() {
+        assertEquals(1, index.ingest("Yahoo", List.of(item("a", 0))).size());
+
+        List<NewsTimelineItem> again = index.ingest("Yahoo", List.of(
+                new RssItem("A", "https://www.example.com/a/?utm_source=x", "", pubDate(5), "Yahoo")));
+
+        assertTrue(again.isEmpty());
+    }
+
+    @Test
+    void itemsTrimmedInTheSameIngestAreNotReturned() {
+        List<RssItem> fill = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            fill.add(item("fill-" + i, 1000 + i));
+        }
+        assertEquals(300, index.ingest("Yahoo", fill).size());
+
+        // 가장 새 항목 1건 + 보관 중인 것보다 오래된 항목 1건: 오래된 항목은 바로 밀려남
+        List<NewsTimelineItem> added = index.ingest("Yahoo", List.of(item("newest", 5000), item("ancient", 0)));
+
+        assertEquals(List.of("newest"), added.stream().map(NewsTimelineItem::title).toList());
+        assertEquals(300, index.getStatus().get("items"));
+        assertEquals("fill-1", index.since(0, 1).items().get(0).title());
+        assertEquals(List.of("newest"), index.since(300, 10).items().stream().map(NewsTimelineItem::title).toList());
+    }
+
+    @Test
+    void evictionListenerReceivesTrimmedItems() {
+        List<String> evicted = new ArrayList<>();
+        index.addEvictionListener(item -> evicted.add(item.title()));
+
+        List<RssItem> fill = new ArrayList<>();
+        for (int i = 0; i < 302; i++) {
+            fill.add(item("fill-" + i, 1000 + i));
+        }
+        index.ingest("Yahoo", fill);
+
+        assertEquals(List.of("fill-0", "fill-1"), evicted);
+    }
+
+    private static RssItem item(String title, int minutes) {
+        return new RssItem(title, "https://example.com/" + title, "", pubDate(minutes), "Yahoo");
+    }
+
+    private static String pubDate(int minutes) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(BASE.plusSeconds(minutes * 60L).atOffset(ZoneOffset.UTC));
+    }
+}
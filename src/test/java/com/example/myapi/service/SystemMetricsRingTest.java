@@ -0,0 +1,104 @@
+package com.example.myapi.service;
+
+import com.example.myapi.service.SystemMetricsRing.Sample;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.myapi.service.SystemMetricsRing.CAPACITY;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SystemMetricsRingTest {
+
+    // sampler 스레드는 start()에서만 시작하므로 record로 직접 채움
+    private final SystemMetricsRing ring = new SystemMetricsRing();
+
+    @Test
+    void emptyRing() {
+        assertNull(ring.latest());
+        assertTrue(ring.recent(10, SystemMetricsRing.SlotView::timestamp).isEmpty());
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void recordsDerivedPercentages() {
+        ring.record(1000, 12.5, 8000, 2000, 256, 1024, 42, 3, 15);
+
+        Sample latest = ring.latest();
+        assertEquals(1000, latest.timestamp());
+        assertEquals(12.5, latest.cpuUsage(), 1e-9);
+        assertEquals(25.0, latest.memoryUsagePercent(), 1e-9);
+        assertEquals(25.0, latest.heapUsagePercent(), 1e-9);
+        assertEquals(42, latest.threadCount());
+        assertEquals(3, latest.gcCount());
+    }
+
+    @Test
+    void partialRingReturnsWhatItHas() {
+        fill(5);
+
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), timestamps(10));
+        assertEquals(List.of(3L, 4L), timestamps(2));
+        assertTrue(timestamps(0).isEmpty());
+        assertTrue(timestamps(-1).isEmpty());
+    }
+
+    @Test
+    void wrapAroundKeepsNewestInOrder() {
+        fill(CAPACITY + 5);
+
+        assertEquals(CAPACITY, ring.size());
+        assertEquals(CAPACITY + 4, ring.latest().timestamp());
+        // 배열 끝(슬롯 CAPACITY-5..CAPACITY-1)에서 처음(슬롯 0..4)으로 이어지는 구간
+        List<Long> recent = timestamps(10);
+        assertEquals(10, recent.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(CAPACITY - 5 + i, recent.get(i).longValue());
+        }
+    }
+
+    @Test
+    void fullReadExcludesSlotWriterMayBeOverwriting() {
+        fill(CAPACITY * 2 + 7);
+
+        List<Long> recent = timestamps(CAPACITY);
+
+        assertEquals(CAPACITY - 1, recent.size());
+        assertEquals(CAPACITY + 8, recent.get(0).longValue());
+        assertEquals(CAPACITY * 2 + 6, recent.get(recent.size() - 1).longValue());
+    }
+
+    @Test
+    void slotsLappedDuringReadAreDropped() {
+        fill(CAPACITY + 5);
+        boolean[] wroteDuringRead = {false};
+
+        // 첫 슬롯을 읽기 직전에 writer가 3개를 더 기록한 상황 (seq 5..7 슬롯이 덮어쓰임)
+        List<Long> recent = ring.recent(CAPACITY, slot -> {
+            if (!wroteDuringRead[0]) {
+                wroteDuringRead[0] = true;
+                for (long t = CAPACITY + 5; t < CAPACITY + 8; t++) {
+                    ring.record(t, 0, 0, 0, 0, 0, 0, 0, 0);
+                }
+            }
+            return slot.timestamp();
+        });
+
+        assertEquals(9L, recent.get(0).longValue());
+        assertEquals(CAPACITY + 4, recent.get(recent.size() - 1).longValue());
+        for (int i = 1; i < recent.size(); i++) {
+            assertEquals(recent.get(i - 1) + 1, recent.get(i).longValue());
+        }
+        assertEquals(CAPACITY + 7, ring.latest().timestamp());
+    }
+
+    private void fill(int count) {
+        for (long t = 0; t < count; t++) {
+            ring.record(t, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+    }
+
+    private List<Long> timestamps(int count) {
+        return ring.recent(count, SystemMetricsRing.SlotView::timestamp);
+    }
+}
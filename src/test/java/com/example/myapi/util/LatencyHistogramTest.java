@@ -0,0 +1,98 @@
+package com.example.myapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void valuesBelowSixteenHaveTheirOwnBucket() {
+        for (long micros = 0; micros < 16; micros++) {
+            assertEquals(micros, LatencyHistogram.indexOf(micros));
+            assertEquals(micros, LatencyHistogram.upperBoundOf((int) micros));
+        }
+    }
+
+    @Test
+    void exponentBoundaries() {
+        // 16 ~ 31: 첫 지수 구간도 1µs 단위
+        assertEquals(16, LatencyHistogram.indexOf(16));
+        assertEquals(16, LatencyHistogram.upperBoundOf(16));
+        assertEquals(31, LatencyHistogram.indexOf(31));
+        assertEquals(31, LatencyHistogram.upperBoundOf(31));
+
+        // 32부터 2µs 단위
+        assertEquals(32, LatencyHistogram.indexOf(32));
+        assertEquals(32, LatencyHistogram.indexOf(33));
+        assertEquals(33, LatencyHistogram.upperBoundOf(32));
+        assertEquals(33, LatencyHistogram.indexOf(34));
+
+        // 2^40 구간까지는 정상 버킷, 그 이상은 마지막 버킷
+        long top = 1L << 40;
+        int topIndex = LatencyHistogram.indexOf(top);
+        assertEquals(topIndex, LatencyHistogram.indexOf(top + 1));
+        assertTrue(LatencyHistogram.upperBoundOf(topIndex) >= top + 1);
+        int lastIndex = LatencyHistogram.indexOf((1L << 41) - 1);
+        assertEquals(topIndex + 15, lastIndex);
+        assertEquals(lastIndex, LatencyHistogram.indexOf(1L << 41));
+        assertEquals(lastIndex, LatencyHistogram.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void bucketUpperBoundStaysWithinRelativeError() {
+        long previousIndex = -1;
+        for (long micros = 1; micros < (1L << 41); micros = micros * 3 / 2 + 1) {
+            int index = LatencyHistogram.indexOf(micros);
+            long upper = LatencyHistogram.upperBoundOf(index);
+
+            assertTrue(index >= previousIndex, "index must not decrease at " + micros);
+            assertTrue(upper >= micros, "upper bound below value at " + micros);
+            assertTrue(upper - micros <= micros / 16, "bucket too wide at " + micros);
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    void percentilesOfUniformDistribution() {
+        for (long micros = 1; micros <= 100; micros++) {
+            histogram.record(micros);
+        }
+
+        assertEquals(100, histogram.count());
+        assertEquals(5050, histogram.totalMicros());
+        assertEquals(100, histogram.maxMicros());
+        // 50은 [50, 51] 버킷, 99는 [96, 99] 버킷
+        assertEquals(51, histogram.percentile(50));
+        assertEquals(99, histogram.percentile(99));
+        // 상한이 최대값을 넘으면 최대값
+        assertEquals(100, histogram.percentile(100));
+        assertEquals(1, histogram.percentile(0));
+    }
+
+    @Test
+    void percentileOfSkewedDistribution() {
+        // 99건은 10µs, 1건은 10ms
+        for (int i = 0; i < 99; i++) {
+            histogram.record(10);
+        }
+        histogram.record(10_000);
+
+        assertEquals(10, histogram.percentile(50));
+        assertEquals(10, histogram.percentile(99));
+        assertEquals(10_000, histogram.percentile(99.9));
+    }
+
+    @Test
+    void emptyHistogramAndNegativeValues() {
+        assertEquals(0, histogram.percentile(99));
+
+        histogram.record(-5);
+
+        assertEquals(1, histogram.count());
+        assertEquals(0, histogram.totalMicros());
+        assertEquals(0, histogram.percentile(50));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.myapi.util;
+
+import com.example.myapi.dto.rss.RssItem;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RssFeedParserTest {
+
+    private static final String RSS = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <rss version="2.0" xmlns:media="http://search.yahoo.com/mrss/">
+              <channel>
+                <title>Market News</title>
+                <link>https://example.com/</link>
+                <item>
+                  <title>Stocks rally</title>
+                  <media:title>ignored</media:title>
+                  <link>https://example.com/a</link>
+                  <description><![CDATA[<p>Shares <b>rose</b> and closed higher</p>]]></description>
+                  <pubDate>Mon, 15 Jan 2024 14:00:00 GMT</pubDate>
+                </item>
+                <item>
+                  <title><![CDATA[코스피 <상승> 마감]]></title>
+                  <link>https://example.com/b</link>
+                  <description>No date here</description>
+                </item>
+              </channel>
+            </rss>
+            """;
+
+    private static final String ATOM = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <feed xmlns="http://www.w3.org/2005/Atom">
+              <title>Atom Feed</title>
+              <entry>
+                <title>Atom entry</title>
+                <link rel="self" href="https://example.com/self"/>
+                <link rel="alternate" href="https://example.com/entry"/>
+                <summary type="html">&lt;em&gt;Summary&lt;/em&gt; text</summary>
+                <updated>2024-01-15T14:00:00Z</updated>
+              </entry>
+            </feed>
+            """;
+
+    @Test
+    void parsesRss2Items() throws Exception {
+        List<RssItem> items = parse(RSS, 10);
+
+        assertEquals(2, items.size());
+        RssItem first = items.get(0);
+        assertEquals("Stocks rally", first.title());
+        assertEquals("https://example.com/a", first.link());
+        assertEquals("Mon, 15 Jan 2024 14:00:00 GMT", first.pubDate());
+        assertEquals("Yahoo", first.source());
+    }
+
+    @Test
+    void cdataIsReadAsTextAndHtmlIsStripped() throws Exception {
+        List<RssItem> items = parse(RSS, 10);
+
+        assertEquals("Shares rose and closed higher", items.get(0).description());
+        assertEquals("코스피 <상승> 마감", items.get(1).title());
+    }
+
+    @Test
+    void missingPubDateIsEmpty() throws Exception {
+        RssItem item = parse(RSS, 10).get(1);
+
+        assertEquals("", item.pubDate());
+        assertEquals("No date here", item.description());
+    }
+
+    @Test
+    void parsesAtomEntries() throws Exception {
+        List<RssItem> items = parse(ATOM, 10);
+
+        assertEquals(1, items.size());
+        RssItem entry = items.get(0);
+        assertEquals("Atom entry", entry.title());
+        assertEquals("https://example.com/entry", entry.link());
+        assertEquals("Summary text", entry.description());
+        assertEquals("2024-01-15T14:00:00Z", entry.pubDate());
+    }
+
+    @Test
+    void stopsAfterMaxItems() throws Exception {
+        List<RssItem> items = parse(RSS, 1);
+
+        assertEquals(1, items.size());
+        assertEquals("Stocks rally", items.get(0).title());
+    }
+
+    @Test
+    void malformedDocumentThrows() {
+        String malformed = "<rss><channel><item><title>Broken</item></channel></rss>";
+
+        assertThrows(XMLStreamException.class, () -> parse(malformed, 10));
+    }
+
+    @Test
+    void stripHtmlKeepsEllipsisWhenCutFallsOnWhitespace() {
+        // 201번째 글자가 공백이어도 뒤에 본문이 더 있으면 말줄임
+        String description = RssFeedParser.stripHtml("<p>" + "가".repeat(200) + " 나머지</p>");
+        assertEquals("가".repeat(200) + "...", description);
+
+        // 뒤따르는 것이 공백과 태그뿐이면 말줄임 없음
+        assertEquals("가".repeat(200), RssFeedParser.stripHtml("가".repeat(200) + "  <br/> \n"));
+    }
+
+    @Test
+    void stripHtmlTruncatesLongText() {
+        String description = RssFeedParser.stripHtml("<p>" + "가".repeat(250) + "</p>");
+
+        assertEquals(203, description.length());
+        assertTrue(description.endsWith("..."));
+    }
+
+    private static List<RssItem> parse(String xml, int maxItems) throws XMLStreamException {
+        return RssFeedParser.parse(
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), "Yahoo", maxItems);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.myapi.util;
+
+import com.example.myapi.dto.system.SystemHistoryPoint;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeriesDownsamplerTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-15T00:00:00Z");
+
+    @Test
+    void thresholdAtOrAboveSizeReturnsInput() {
+        List<SystemHistoryPoint> points = series(10);
+
+        assertSame(points, SeriesDownsampler.lttb(points, 10));
+        assertSame(points, SeriesDownsampler.lttb(points, 500));
+    }
+
+    @Test
+    void thresholdBelowThreeReturnsInput() {
+        List<SystemHistoryPoint> points = series(10);
+
+        assertSame(points, SeriesDownsampler.lttb(points, 2));
+        assertSame(points, SeriesDownsampler.lttb(points, 0));
+    }
+
+    @Test
+    void outputHasExactlyMaxPointsInTimeOrder() {
+        List<SystemHistoryPoint> points = series(1000);
+
+        for (int maxPoints : new int[]{3, 7, 100, 999}) {
+            List<SystemHistoryPoint> sampled = SeriesDownsampler.lttb(points, maxPoints);
+            assertEquals(maxPoints, sampled.size());
+            for (int i = 1; i < sampled.size(); i++) {
+                assertTrue(sampled.get(i).timestamp().isAfter(sampled.get(i - 1).timestamp()));
+            }
+        }
+    }
+
+    @Test
+    void firstAndLastPointsArePreserved() {
+        List<SystemHistoryPoint> points = series(200);
+
+        List<SystemHistoryPoint> sampled = SeriesDownsampler.lttb(points, 20);
+
+        assertSame(points.get(0), sampled.get(0));
+        assertSame(points.get(199), sampled.get(19));
+    }
+
+    @Test
+    void spikeSurvivesDownsampling() {
+        List<SystemHistoryPoint> points = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            points.add(point(i, i == 42 ? 95.0 : 10.0));
+        }
+
+        List<SystemHistoryPoint> sampled = SeriesDownsampler.lttb(points, 10);
+
+        assertTrue(sampled.contains(points.get(42)));
+    }
+
+    private static List<SystemHistoryPoint> series(int size) {
+        List<SystemHistoryPoint> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(point(i, 50 + 40 * Math.sin(i / 10.0)));
+        }
+        return points;
+    }
+
+    private static SystemHistoryPoint point(int minute, double cpu) {
+        return new SystemHistoryPoint(T0.plusSeconds(minute * 60L), 1, cpu, cpu, cpu, 40.0, 40.0, 40.0,
+                30.0, 30.0, 30.0, null, null, null, null, null, null, null,
+                null, null, null, null, null);
+    }
+}